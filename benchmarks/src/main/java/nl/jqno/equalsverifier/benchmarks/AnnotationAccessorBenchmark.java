@@ -0,0 +1,44 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.DeepHierarchy.Level5;
+import nl.jqno.equalsverifier.benchmarks.types.FiftyFieldEntity;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationAccessor;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the annotation lookups that {@code ClassAccessor} does for the
+ * class under test and each of its superclasses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnnotationAccessorBenchmark {
+    private static final Set<String> NO_IGNORED_ANNOTATIONS = Collections.emptySet();
+
+    @Benchmark
+    public boolean typeHas_fiftyFieldEntity() {
+        return accessorFor(FiftyFieldEntity.class).typeHas(SupportedAnnotations.ENTITY);
+    }
+
+    @Benchmark
+    public boolean fieldHas_fiftyFieldEntity() {
+        return accessorFor(FiftyFieldEntity.class).fieldHas("field49", SupportedAnnotations.NONNULL);
+    }
+
+    @Benchmark
+    public boolean typeHas_deepHierarchy() {
+        return accessorFor(Level5.class).typeHas(SupportedAnnotations.IMMUTABLE);
+    }
+
+    private AnnotationAccessor accessorFor(Class<?> type) {
+        return new AnnotationAccessor(SupportedAnnotations.values(), type, NO_IGNORED_ANNOTATIONS, false);
+    }
+}
@@ -0,0 +1,52 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.FiftyFieldEntity;
+import nl.jqno.equalsverifier.benchmarks.types.FlatPojo;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ObjectAccessor#copy()} and scrambling, which the checkers
+ * call for nearly every object they create.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectAccessorBenchmark {
+    private PrefabValues prefabValues;
+    private ObjectAccessor<FlatPojo> pojo;
+    private ObjectAccessor<FiftyFieldEntity> entity;
+
+    @Setup
+    public void setUp() {
+        prefabValues = JavaApiPrefabValues.newPrefabValues();
+        pojo = ObjectAccessor.of(new FlatPojo(1, 2L, 3.0, true, "four"));
+        entity = ObjectAccessor.of(new FiftyFieldEntity());
+        entity.scramble(prefabValues, TypeTag.NULL);
+    }
+
+    @Benchmark
+    public FlatPojo copy_flatPojo() {
+        return pojo.copy();
+    }
+
+    @Benchmark
+    public FiftyFieldEntity copy_fiftyFieldEntity() {
+        return entity.copy();
+    }
+
+    @Benchmark
+    public FiftyFieldEntity scramble_fiftyFieldEntity() {
+        ObjectAccessor<FiftyFieldEntity> accessor = ObjectAccessor.of(entity.copy());
+        accessor.scramble(prefabValues, TypeTag.NULL);
+        return accessor.get();
+    }
+}
@@ -0,0 +1,68 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.FlatPojo;
+import nl.jqno.equalsverifier.benchmarks.types.GenericContainer;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PrefabValues#giveTuple(TypeTag)}, both for tuples that are
+ * already cached and for tuples that have to be realized first, and the cost
+ * of registering the Java API factories.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrefabValuesBenchmark {
+    private static final TypeTag POJO_TAG = new TypeTag(FlatPojo.class);
+    private static final TypeTag CONTAINER_TAG = new TypeTag(GenericContainer.class);
+    private static final TypeTag MAP_TAG =
+            new TypeTag(Map.class, new TypeTag(String.class), new TypeTag(List.class, new TypeTag(Integer.class)));
+
+    private PrefabValues warm;
+
+    @Setup
+    public void setUp() {
+        warm = JavaApiPrefabValues.newPrefabValues();
+        warm.giveTuple(POJO_TAG);
+        warm.giveTuple(CONTAINER_TAG);
+        warm.giveTuple(MAP_TAG);
+    }
+
+    @Benchmark
+    public Tuple<Object> giveTuple_cached() {
+        return warm.giveTuple(CONTAINER_TAG);
+    }
+
+    @Benchmark
+    public Tuple<Object> giveTuple_genericCached() {
+        return warm.giveTuple(MAP_TAG);
+    }
+
+    @Benchmark
+    public Tuple<Object> giveTuple_realizePojo() {
+        return JavaApiPrefabValues.newPrefabValues().giveTuple(POJO_TAG);
+    }
+
+    @Benchmark
+    public Tuple<Object> giveTuple_realizeContainer() {
+        return JavaApiPrefabValues.newPrefabValues().giveTuple(CONTAINER_TAG);
+    }
+
+    @Benchmark
+    public PrefabValues javaApiPrefabValues_addTo() {
+        PrefabValues result = new PrefabValues();
+        JavaApiPrefabValues.addTo(result);
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.GenericContainer;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TypeTag#of(Field, TypeTag)} for fields with nested generic
+ * types, and the equality checks that the prefab value cache relies on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeTagBenchmark {
+    private TypeTag enclosing;
+    private Field groups;
+    private Field nested;
+    private TypeTag groupsTag;
+    private TypeTag otherGroupsTag;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        enclosing = new TypeTag(GenericContainer.class);
+        groups = GenericContainer.class.getDeclaredField("groups");
+        nested = GenericContainer.class.getDeclaredField("nested");
+        groupsTag = TypeTag.of(groups, enclosing);
+        otherGroupsTag = TypeTag.of(groups, enclosing);
+    }
+
+    @Benchmark
+    public TypeTag of_mapOfLists() {
+        return TypeTag.of(groups, enclosing);
+    }
+
+    @Benchmark
+    public TypeTag of_nestedPair() {
+        return TypeTag.of(nested, enclosing);
+    }
+
+    @Benchmark
+    public boolean equalsOfTags() {
+        return groupsTag.equals(otherGroupsTag);
+    }
+
+    @Benchmark
+    public int hashCodeOfTag() {
+        return groupsTag.hashCode();
+    }
+}
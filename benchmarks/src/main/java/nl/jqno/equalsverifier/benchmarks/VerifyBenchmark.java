@@ -0,0 +1,64 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.benchmarks.types.DeepHierarchy.Level5;
+import nl.jqno.equalsverifier.benchmarks.types.FiftyFieldEntity;
+import nl.jqno.equalsverifier.benchmarks.types.FlatPojo;
+import nl.jqno.equalsverifier.benchmarks.types.GenericContainer;
+import nl.jqno.equalsverifier.benchmarks.types.GuavaJodaFields;
+import nl.jqno.equalsverifier.benchmarks.types.RecursiveNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code EqualsVerifier.forClass(...).verify()} end to end, for a
+ * number of representative class shapes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerifyBenchmark {
+    @Benchmark
+    public void flatPojo() {
+        EqualsVerifier.forClass(FlatPojo.class)
+                .verify();
+    }
+
+    @Benchmark
+    public void fiftyFieldEntity() {
+        EqualsVerifier.forClass(FiftyFieldEntity.class)
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify();
+    }
+
+    @Benchmark
+    public void deepHierarchy() {
+        EqualsVerifier.forClass(Level5.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Benchmark
+    public void genericContainer() {
+        EqualsVerifier.forClass(GenericContainer.class)
+                .verify();
+    }
+
+    @Benchmark
+    public void recursiveWithPrefabValues() {
+        EqualsVerifier.forClass(RecursiveNode.class)
+                .withPrefabValues(RecursiveNode.class, RecursiveNode.RED, RecursiveNode.BLACK)
+                .verify();
+    }
+
+    @Benchmark
+    public void guavaAndJodaFields() {
+        EqualsVerifier.forClass(GuavaJodaFields.class)
+                .verify();
+    }
+}
@@ -0,0 +1,108 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A five-level inheritance chain, where each level adds a field and
+ * redefines equals.
+ */
+public final class DeepHierarchy {
+    private DeepHierarchy() {}
+
+    public static class Level1 {
+        private final int a;
+
+        public Level1(int a) {
+            this.a = a;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return a == ((Level1)obj).a;
+        }
+
+        @Override
+        public int hashCode() {
+            return a;
+        }
+    }
+
+    public static class Level2 extends Level1 {
+        private final String b;
+
+        public Level2(int a, String b) {
+            super(a);
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && Objects.equals(b, ((Level2)obj).b);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + Objects.hashCode(b);
+        }
+    }
+
+    public static class Level3 extends Level2 {
+        private final long c;
+
+        public Level3(int a, String b, long c) {
+            super(a, b);
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && c == ((Level3)obj).c;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + (int)c;
+        }
+    }
+
+    public static class Level4 extends Level3 {
+        private final double d;
+
+        public Level4(int a, String b, long c, double d) {
+            super(a, b, c);
+            this.d = d;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && Double.compare(d, ((Level4)obj).d) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + Double.valueOf(d).hashCode();
+        }
+    }
+
+    public static final class Level5 extends Level4 {
+        private final boolean e;
+
+        public Level5(int a, String b, long c, double d, boolean e) {
+            super(a, b, c, d);
+            this.e = e;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj) && e == ((Level5)obj).e;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + (e ? 1 : 0);
+        }
+    }
+}
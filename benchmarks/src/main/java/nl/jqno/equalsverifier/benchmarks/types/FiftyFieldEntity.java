@@ -0,0 +1,173 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * Mimics a wide, mutable JPA-style entity.
+ */
+public class FiftyFieldEntity {
+    private int field00;
+    private long field01;
+    private String field02;
+    private double field03;
+    private boolean field04;
+    private int field05;
+    private long field06;
+    private String field07;
+    private double field08;
+    private boolean field09;
+    private int field10;
+    private long field11;
+    private String field12;
+    private double field13;
+    private boolean field14;
+    private int field15;
+    private long field16;
+    private String field17;
+    private double field18;
+    private boolean field19;
+    private int field20;
+    private long field21;
+    private String field22;
+    private double field23;
+    private boolean field24;
+    private int field25;
+    private long field26;
+    private String field27;
+    private double field28;
+    private boolean field29;
+    private int field30;
+    private long field31;
+    private String field32;
+    private double field33;
+    private boolean field34;
+    private int field35;
+    private long field36;
+    private String field37;
+    private double field38;
+    private boolean field39;
+    private int field40;
+    private long field41;
+    private String field42;
+    private double field43;
+    private boolean field44;
+    private int field45;
+    private long field46;
+    private String field47;
+    private double field48;
+    private boolean field49;
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof FiftyFieldEntity)) {
+            return false;
+        }
+        FiftyFieldEntity other = (FiftyFieldEntity)obj;
+        return field00 == other.field00 &&
+                field01 == other.field01 &&
+                Objects.equals(field02, other.field02) &&
+                Double.compare(field03, other.field03) == 0 &&
+                field04 == other.field04 &&
+                field05 == other.field05 &&
+                field06 == other.field06 &&
+                Objects.equals(field07, other.field07) &&
+                Double.compare(field08, other.field08) == 0 &&
+                field09 == other.field09 &&
+                field10 == other.field10 &&
+                field11 == other.field11 &&
+                Objects.equals(field12, other.field12) &&
+                Double.compare(field13, other.field13) == 0 &&
+                field14 == other.field14 &&
+                field15 == other.field15 &&
+                field16 == other.field16 &&
+                Objects.equals(field17, other.field17) &&
+                Double.compare(field18, other.field18) == 0 &&
+                field19 == other.field19 &&
+                field20 == other.field20 &&
+                field21 == other.field21 &&
+                Objects.equals(field22, other.field22) &&
+                Double.compare(field23, other.field23) == 0 &&
+                field24 == other.field24 &&
+                field25 == other.field25 &&
+                field26 == other.field26 &&
+                Objects.equals(field27, other.field27) &&
+                Double.compare(field28, other.field28) == 0 &&
+                field29 == other.field29 &&
+                field30 == other.field30 &&
+                field31 == other.field31 &&
+                Objects.equals(field32, other.field32) &&
+                Double.compare(field33, other.field33) == 0 &&
+                field34 == other.field34 &&
+                field35 == other.field35 &&
+                field36 == other.field36 &&
+                Objects.equals(field37, other.field37) &&
+                Double.compare(field38, other.field38) == 0 &&
+                field39 == other.field39 &&
+                field40 == other.field40 &&
+                field41 == other.field41 &&
+                Objects.equals(field42, other.field42) &&
+                Double.compare(field43, other.field43) == 0 &&
+                field44 == other.field44 &&
+                field45 == other.field45 &&
+                field46 == other.field46 &&
+                Objects.equals(field47, other.field47) &&
+                Double.compare(field48, other.field48) == 0 &&
+                field49 == other.field49;
+    }
+
+    @Override
+    public final int hashCode() {
+        int result = 17;
+        result = 31 * result + Objects.hashCode(field00);
+        result = 31 * result + Objects.hashCode(field01);
+        result = 31 * result + Objects.hashCode(field02);
+        result = 31 * result + Objects.hashCode(field03);
+        result = 31 * result + Objects.hashCode(field04);
+        result = 31 * result + Objects.hashCode(field05);
+        result = 31 * result + Objects.hashCode(field06);
+        result = 31 * result + Objects.hashCode(field07);
+        result = 31 * result + Objects.hashCode(field08);
+        result = 31 * result + Objects.hashCode(field09);
+        result = 31 * result + Objects.hashCode(field10);
+        result = 31 * result + Objects.hashCode(field11);
+        result = 31 * result + Objects.hashCode(field12);
+        result = 31 * result + Objects.hashCode(field13);
+        result = 31 * result + Objects.hashCode(field14);
+        result = 31 * result + Objects.hashCode(field15);
+        result = 31 * result + Objects.hashCode(field16);
+        result = 31 * result + Objects.hashCode(field17);
+        result = 31 * result + Objects.hashCode(field18);
+        result = 31 * result + Objects.hashCode(field19);
+        result = 31 * result + Objects.hashCode(field20);
+        result = 31 * result + Objects.hashCode(field21);
+        result = 31 * result + Objects.hashCode(field22);
+        result = 31 * result + Objects.hashCode(field23);
+        result = 31 * result + Objects.hashCode(field24);
+        result = 31 * result + Objects.hashCode(field25);
+        result = 31 * result + Objects.hashCode(field26);
+        result = 31 * result + Objects.hashCode(field27);
+        result = 31 * result + Objects.hashCode(field28);
+        result = 31 * result + Objects.hashCode(field29);
+        result = 31 * result + Objects.hashCode(field30);
+        result = 31 * result + Objects.hashCode(field31);
+        result = 31 * result + Objects.hashCode(field32);
+        result = 31 * result + Objects.hashCode(field33);
+        result = 31 * result + Objects.hashCode(field34);
+        result = 31 * result + Objects.hashCode(field35);
+        result = 31 * result + Objects.hashCode(field36);
+        result = 31 * result + Objects.hashCode(field37);
+        result = 31 * result + Objects.hashCode(field38);
+        result = 31 * result + Objects.hashCode(field39);
+        result = 31 * result + Objects.hashCode(field40);
+        result = 31 * result + Objects.hashCode(field41);
+        result = 31 * result + Objects.hashCode(field42);
+        result = 31 * result + Objects.hashCode(field43);
+        result = 31 * result + Objects.hashCode(field44);
+        result = 31 * result + Objects.hashCode(field45);
+        result = 31 * result + Objects.hashCode(field46);
+        result = 31 * result + Objects.hashCode(field47);
+        result = 31 * result + Objects.hashCode(field48);
+        result = 31 * result + Objects.hashCode(field49);
+        return result;
+    }
+}
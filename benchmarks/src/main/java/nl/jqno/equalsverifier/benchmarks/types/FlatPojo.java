@@ -0,0 +1,35 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+public final class FlatPojo {
+    private final int id;
+    private final long timestamp;
+    private final double amount;
+    private final boolean active;
+    private final String name;
+
+    public FlatPojo(int id, long timestamp, double amount, boolean active, String name) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.amount = amount;
+        this.active = active;
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FlatPojo)) {
+            return false;
+        }
+        FlatPojo other = (FlatPojo)obj;
+        return id == other.id && timestamp == other.timestamp &&
+                Double.compare(amount, other.amount) == 0 &&
+                active == other.active && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, timestamp, amount, active, name);
+    }
+}
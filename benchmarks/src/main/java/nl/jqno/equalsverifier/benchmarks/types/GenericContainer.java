@@ -0,0 +1,64 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Holds fields with nested generic types, which exercise TypeTag resolution
+ * and the generic prefab value factories.
+ */
+public final class GenericContainer {
+    private final List<String> names;
+    private final Map<String, List<Integer>> groups;
+    private final Set<Pair<String, Long>> pairs;
+    private final Pair<FlatPojo, Map<Integer, String>> nested;
+
+    public GenericContainer(List<String> names, Map<String, List<Integer>> groups,
+            Set<Pair<String, Long>> pairs, Pair<FlatPojo, Map<Integer, String>> nested) {
+        this.names = names;
+        this.groups = groups;
+        this.pairs = pairs;
+        this.nested = nested;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GenericContainer)) {
+            return false;
+        }
+        GenericContainer other = (GenericContainer)obj;
+        return Objects.equals(names, other.names) && Objects.equals(groups, other.groups) &&
+                Objects.equals(pairs, other.pairs) && Objects.equals(nested, other.nested);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(names, groups, pairs, nested);
+    }
+
+    public static final class Pair<L, R> {
+        private final L left;
+        private final R right;
+
+        public Pair(L left, R right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Pair)) {
+                return false;
+            }
+            Pair<?, ?> other = (Pair<?, ?>)obj;
+            return Objects.equals(left, other.left) && Objects.equals(right, other.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(left, right);
+        }
+    }
+}
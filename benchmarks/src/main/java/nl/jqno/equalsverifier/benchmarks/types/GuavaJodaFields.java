@@ -0,0 +1,46 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multimap;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+
+import java.util.Objects;
+
+/**
+ * Holds fields whose prefab values come from the Guava and Joda-Time
+ * factories.
+ */
+public final class GuavaJodaFields {
+    private final ImmutableList<String> tags;
+    private final ImmutableMap<String, Integer> counts;
+    private final Multimap<String, String> index;
+    private final LocalDate date;
+    private final DateTime timestamp;
+
+    public GuavaJodaFields(ImmutableList<String> tags, ImmutableMap<String, Integer> counts,
+            Multimap<String, String> index, LocalDate date, DateTime timestamp) {
+        this.tags = tags;
+        this.counts = counts;
+        this.index = index;
+        this.date = date;
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GuavaJodaFields)) {
+            return false;
+        }
+        GuavaJodaFields other = (GuavaJodaFields)obj;
+        return Objects.equals(tags, other.tags) && Objects.equals(counts, other.counts) &&
+                Objects.equals(index, other.index) && Objects.equals(date, other.date) &&
+                Objects.equals(timestamp, other.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tags, counts, index, date, timestamp);
+    }
+}
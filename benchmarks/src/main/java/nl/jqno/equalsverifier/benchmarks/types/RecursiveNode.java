@@ -0,0 +1,33 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A recursive data structure, which can only be verified with prefab values.
+ */
+public final class RecursiveNode {
+    public static final RecursiveNode RED = new RecursiveNode("red", null);
+    public static final RecursiveNode BLACK = new RecursiveNode("black", null);
+
+    private final String value;
+    private final RecursiveNode next;
+
+    public RecursiveNode(String value, RecursiveNode next) {
+        this.value = value;
+        this.next = next;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof RecursiveNode)) {
+            return false;
+        }
+        RecursiveNode other = (RecursiveNode)obj;
+        return Objects.equals(value, other.value) && Objects.equals(next, other.next);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, next);
+    }
+}
@@ -2,15 +2,22 @@ package nl.jqno.equalsverifier;
 
 import nl.jqno.equalsverifier.internal.checkers.*;
 import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
-import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedTupleCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
+import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
 import nl.jqno.equalsverifier.internal.util.CachedHashCodeInitializer;
 import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent.Span;
 import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.util.ResultCache;
+import nl.jqno.equalsverifier.internal.util.VerificationCounters;
 import org.objectweb.asm.Type;
 
+import java.io.File;
 import java.util.*;
 
 /**
@@ -33,14 +40,16 @@ import java.util.*;
  */
 public final class EqualsVerifier<T> {
     private Configuration<T> config;
+    private VerificationListener listener = null;
+    private ResultCache resultCache = null;
+    private final List<ResultCache.PrefabEntry> addedPrefabValues = new ArrayList<>();
 
     /**
-     * Private constructor. Call {@link #forClass(Class)} or
+     * Package-private constructor. Call {@link #forClass(Class)} or
      * {@link #forRelaxedEqualExamples(Object, Object, Object...)} instead.
      */
-    private EqualsVerifier(Configuration<T> config) {
+    EqualsVerifier(Configuration<T> config) {
         this.config = config;
-        JavaApiPrefabValues.addTo(config.getPrefabValues());
     }
 
     /**
@@ -54,6 +63,72 @@ public final class EqualsVerifier<T> {
         return new EqualsVerifier<>(config);
     }
 
+    /**
+     * Factory method. For verifying many classes with the same settings at
+     * once. Prefabricated values are shared between the classes, which makes
+     * this faster than calling {@link #forClass(Class)} for each class.
+     *
+     * @param types The classes for which the {@code equals} method should be
+     *          tested.
+     */
+    public static MultipleTypeEqualsVerifier forClasses(Iterable<Class<?>> types) {
+        return new MultipleTypeEqualsVerifier(types);
+    }
+
+    /**
+     * Factory method. For verifying many classes with the same settings at
+     * once. Prefabricated values are shared between the classes, which makes
+     * this faster than calling {@link #forClass(Class)} for each class.
+     *
+     * @param first A class for which the {@code equals} method should be
+     *          tested.
+     * @param second Another class for which the {@code equals} method should
+     *          be tested.
+     * @param more More classes for which the {@code equals} method should be
+     *          tested.
+     */
+    public static MultipleTypeEqualsVerifier forClasses(Class<?> first, Class<?> second, Class<?>... more) {
+        List<Class<?>> types = new ArrayList<>();
+        types.add(first);
+        types.add(second);
+        Collections.addAll(types, more);
+        return forClasses(types);
+    }
+
+    /**
+     * Factory method. For verifying all classes in a package with the same
+     * settings at once. Sub-packages are not included. Interfaces, enums,
+     * and anonymous, local and synthetic classes are skipped. Classes that
+     * can't be loaded cause an exception.
+     *
+     * @param packageName The package that contains the classes for which the
+     *          {@code equals} method should be tested.
+     * @throws IllegalArgumentException If the package contains no classes.
+     */
+    public static MultipleTypeEqualsVerifier forPackage(String packageName) {
+        return forPackage(packageName, false);
+    }
+
+    /**
+     * Factory method. For verifying all classes in a package with the same
+     * settings at once. Interfaces, enums, and anonymous, local and
+     * synthetic classes are skipped. Classes that can't be loaded cause an
+     * exception.
+     *
+     * @param packageName The package that contains the classes for which the
+     *          {@code equals} method should be tested.
+     * @param scanRecursively Whether the classes in sub-packages should be
+     *          tested as well.
+     * @throws IllegalArgumentException If the package contains no classes.
+     */
+    public static MultipleTypeEqualsVerifier forPackage(String packageName, boolean scanRecursively) {
+        List<Class<?>> types = PackageScanner.getClassesIn(packageName, scanRecursively);
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("Package " + packageName + " doesn't contain any classes.");
+        }
+        return forClasses(types);
+    }
+
     /**
      * Factory method. Asks for a list of equal, but not identical, instances
      * of T.
@@ -120,6 +195,12 @@ public final class EqualsVerifier<T> {
      * @throws IllegalArgumentException If {@code red} equals {@code black}.
      */
     public <S> EqualsVerifier<T> withPrefabValues(Class<S> otherType, S red, S black) {
+        addPrefabValues(config.getPrefabValues(), otherType, red, black);
+        addedPrefabValues.add(ResultCache.PrefabEntry.of(otherType, red, black));
+        return this;
+    }
+
+    static <S> void addPrefabValues(PrefabValues prefabValues, Class<S> otherType, S red, S black) {
         if (otherType == null) {
             throw new NullPointerException("Type is null");
         }
@@ -131,12 +212,84 @@ public final class EqualsVerifier<T> {
         }
 
         if (red.getClass().isArray()) {
-            config.getPrefabValues().addFactory(otherType, red, black, red);
+            prefabValues.addFactory(otherType, red, black, red);
         }
         else {
             S redCopy = ObjectAccessor.of(red).copy();
-            config.getPrefabValues().addFactory(otherType, red, black, redCopy);
+            prefabValues.addFactory(otherType, red, black, redCopy);
+        }
+    }
+
+    /**
+     * Makes {@code EqualsVerifier} share the prefabricated values it creates
+     * with other instances of {@code EqualsVerifier} that do the same, as long
+     * as they use the same prefabricated values for the same types. This saves
+     * time when many classes with the same field types are verified in one
+     * JVM.
+     *
+     * Prefabricated values are compared by identity, never with their own
+     * {@code equals} method, which may be the one under test. Because
+     * {@link #withPrefabValues(Class, Object, Object)} makes a fresh copy of
+     * the red value, a verifier that adds its own prefabricated values
+     * doesn't share values with other verifiers.
+     *
+     * The shared values are kept in
+     * {@link SharedTupleCache#getInstance()}, which also keeps track of how
+     * often a value could be reused.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifier<T> withSharedPrefabValueCache() {
+        config.getPrefabValues().useSharedCache(SharedTupleCache.getInstance());
+        return this;
+    }
+
+    /**
+     * Reports how much time and work the verification took to the given
+     * listener, when it is done. See {@link VerificationSummary} for a
+     * listener that prints the slowest verifications.
+     *
+     * @param verificationListener The listener to report to.
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifier<T> withVerificationListener(VerificationListener verificationListener) {
+        if (verificationListener == null) {
+            throw new NullPointerException("Listener is null");
+        }
+        this.listener = verificationListener;
+        return this;
+    }
+
+    /**
+     * Remembers successful verifications in the given directory, and skips
+     * the verification if it succeeded before and nothing relevant has
+     * changed since.
+     *
+     * A verification is considered unchanged when the bytecode of the class,
+     * its superclasses and the types of their fields, transitively, and the
+     * configuration of {@code EqualsVerifier}, are all the same.
+     * Prefabricated values and examples are compared by their
+     * {@code toString}; if one of them doesn't override it, the verification
+     * isn't cached.
+     *
+     * Several JVMs can safely share the same directory. Set the system
+     * property {@value ResultCache#FORCE_PROPERTY} to {@code true} to
+     * perform all verifications regardless.
+     *
+     * @param directory The directory that contains the cached results. Is
+     *          created if it doesn't exist yet.
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifier<T> withResultCache(File directory) {
+        if (directory == null) {
+            throw new NullPointerException("Directory is null");
         }
+        this.resultCache = ResultCache.of(directory);
+        return this;
+    }
+
+    EqualsVerifier<T> withAddedPrefabValues(List<ResultCache.PrefabEntry> entries) {
+        addedPrefabValues.addAll(entries);
         return this;
     }
 
@@ -354,40 +507,79 @@ public final class EqualsVerifier<T> {
      *          {@link EqualsVerifier}'s preconditions do not hold.
      */
     public void verify() {
+        EqualsVerifierReport report = report();
+        if (!report.isSuccessful()) {
+            throw report.toAssertionError();
+        }
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode}, and returns the outcome instead of throwing it.
+     *
+     * @return A report that indicates whether the contract is met, and if
+     *          not, why.
+     */
+    public EqualsVerifierReport report() {
+        long start = System.nanoTime();
+        Span span = FlightRecorderEvent.VERIFICATION.begin();
+        VerificationCounters counters = VerificationCounters.start();
+        EqualsVerifierReport result = null;
         try {
-            performVerification();
+            performVerificationUnlessCached(counters);
+            result = EqualsVerifierReport.success(config.getType(), counters.getInstantiations());
         }
         catch (MessagingException e) {
-            handleError(e, e.getCause());
+            result = buildFailureReport(e, e.getCause(), counters);
         }
         catch (Throwable e) {
-            handleError(e, e);
+            result = buildFailureReport(e, e, counters);
+        }
+        finally {
+            counters.stop();
+            if (span.isActive()) {
+                span.end(config.getType().getName(), result != null && result.isSuccessful());
+            }
         }
+
+        if (listener != null) {
+            listener.verified(VerificationMetrics.of(config.getType(), result.isSuccessful(), System.nanoTime() - start, counters));
+        }
+        return result;
     }
 
-    private void handleError(Throwable messageContainer, Throwable trueCause) {
+    private EqualsVerifierReport buildFailureReport(Throwable messageContainer, Throwable trueCause, VerificationCounters counters) {
         boolean showCauseExceptionInMessage = trueCause != null && trueCause.equals(messageContainer);
         Formatter message = Formatter.of(
                 "%%%%\nFor more information, go to: http://www.jqno.nl/equalsverifier/errormessages",
                 showCauseExceptionInMessage ? trueCause.getClass().getSimpleName() + ": " : "",
                 messageContainer.getMessage() == null ? "" : messageContainer.getMessage());
 
-        AssertionError error = new AssertionError(message.format());
-        error.initCause(trueCause);
-        throw error;
+        return EqualsVerifierReport.failure(config.getType(), message.format(), trueCause, counters.getInstantiations());
+    }
+
+    private void performVerificationUnlessCached(VerificationCounters counters) {
+        String cacheKey = resultCache == null ? null : resultCache.keyFor(config, addedPrefabValues);
+        if (cacheKey != null && resultCache.containsSuccess(cacheKey)) {
+            return;
+        }
+        performVerification(counters);
+        if (cacheKey != null) {
+            resultCache.putSuccess(cacheKey, config.getType());
+        }
     }
 
-    private void performVerification() {
+    private void performVerification(VerificationCounters counters) {
         if (config.getType().isEnum()) {
             return;
         }
 
-        verifyWithoutExamples();
+        verifyWithoutExamples(counters);
         ensureUnequalExamples();
-        verifyWithExamples();
+        verifyWithExamples(counters);
     }
 
-    private void verifyWithoutExamples() {
+    private void verifyWithoutExamples(VerificationCounters counters) {
         Checker[] checkers = {
             new SignatureChecker<>(config),
             new AbstractDelegationChecker<>(config),
@@ -395,9 +587,7 @@ public final class EqualsVerifier<T> {
             new CachedHashCodeChecker<>(config)
         };
 
-        for (Checker checker : checkers) {
-            checker.check();
-        }
+        runCheckers(checkers, counters);
     }
 
     private void ensureUnequalExamples() {
@@ -414,15 +604,30 @@ public final class EqualsVerifier<T> {
         config = config.withUnequalExamples(unequalExamples);
     }
 
-    private void verifyWithExamples() {
+    private void verifyWithExamples(VerificationCounters counters) {
         Checker[] checkers = {
             new ExamplesChecker<>(config),
             new HierarchyChecker<>(config),
             new FieldsChecker<>(config)
         };
 
+        runCheckers(checkers, counters);
+    }
+
+    private void runCheckers(Checker[] checkers, VerificationCounters counters) {
         for (Checker checker : checkers) {
-            checker.check();
+            String name = checker.getClass().getSimpleName();
+            long start = System.nanoTime();
+            Span span = FlightRecorderEvent.CHECKER.begin();
+            try {
+                checker.check();
+            }
+            finally {
+                if (span.isActive()) {
+                    span.end(config.getType().getName(), name);
+                }
+                counters.addTime(name, System.nanoTime() - start);
+            }
         }
     }
 
@@ -0,0 +1,95 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * Contains the outcome of verifying a single class with
+ * {@link EqualsVerifier}.
+ */
+public final class EqualsVerifierReport {
+    private final Class<?> type;
+    private final boolean successful;
+    private final String message;
+    private final Throwable cause;
+    private final long instantiations;
+
+    private EqualsVerifierReport(Class<?> type, boolean successful, String message, Throwable cause, long instantiations) {
+        this.type = type;
+        this.successful = successful;
+        this.message = message;
+        this.cause = cause;
+        this.instantiations = instantiations;
+    }
+
+    /**
+     * Factory method for a successful verification.
+     *
+     * @param type The class that was verified.
+     * @param instantiations The number of instances the verification created.
+     * @return A report without a message.
+     */
+    static EqualsVerifierReport success(Class<?> type, long instantiations) {
+        return new EqualsVerifierReport(type, true, "", null, instantiations);
+    }
+
+    /**
+     * Factory method for a failed verification.
+     *
+     * @param type The class that was verified.
+     * @param message A description of what went wrong.
+     * @param cause The exception that caused the failure, if any.
+     * @param instantiations The number of instances the verification created
+     *          before it failed.
+     * @return A report with the given message and cause.
+     */
+    static EqualsVerifierReport failure(Class<?> type, String message, Throwable cause, long instantiations) {
+        return new EqualsVerifierReport(type, false, message, cause, instantiations);
+    }
+
+    /**
+     * Getter.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Getter.
+     */
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    /**
+     * Getter. Returns an empty string if the verification was successful.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Getter. Returns null if the verification was successful, or if it failed
+     * without an underlying exception.
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    /**
+     * Getter. Returns the number of objects that were instantiated while
+     * verifying the class. This includes the prefab values that had to be
+     * created for its fields, but not the ones that were reused from an
+     * earlier verification.
+     */
+    public long getInstantiations() {
+        return instantiations;
+    }
+
+    /**
+     * Creates the {@link AssertionError} that {@link EqualsVerifier#verify()}
+     * throws for this report.
+     */
+    AssertionError toAssertionError() {
+        AssertionError error = new AssertionError(message);
+        error.initCause(cause);
+        return error;
+    }
+}
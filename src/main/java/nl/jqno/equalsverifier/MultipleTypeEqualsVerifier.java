@@ -0,0 +1,296 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedTupleCache;
+import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.ResultCache;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * {@code MultipleTypeEqualsVerifier} can be used to verify the contracts of
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} for many classes
+ * at once, with the same settings.
+ *
+ * Use, within unit test method, as follows:
+ * <ul>
+ * <li>Create an instance of {@link MultipleTypeEqualsVerifier}. Call
+ * {@link EqualsVerifier#forClasses(Class, Class, Class...)} or
+ * {@link EqualsVerifier#forPackage(String)}.</li>
+ * <li>If necessary, specify some settings. These apply to all classes.</li>
+ * <li>Call {@link #verify()} to perform the actual verifications, or
+ * {@link #report()} to get the outcome for each class.</li>
+ * </ul>
+ *
+ * The classes share one set of prefabricated values, so values for the types
+ * that they have in common are created only once. When the classes are
+ * verified in parallel, each class gets its own prefabricated values instead,
+ * unless {@link #withSharedPrefabValueCache()} is used.
+ */
+public final class MultipleTypeEqualsVerifier {
+    private final List<Class<?>> types;
+    private final PrefabValues prefabValues = JavaApiPrefabValues.newPrefabValues();
+    private final EnumSet<Warning> warningsToSuppress = EnumSet.noneOf(Warning.class);
+    private boolean usingGetClass = false;
+    private boolean parallel = false;
+    private Executor executor = null;
+    private VerificationListener listener = null;
+    private File resultCacheDirectory = null;
+    private final List<ResultCache.PrefabEntry> addedPrefabValues = new ArrayList<>();
+
+    /**
+     * Package-private constructor. Call
+     * {@link EqualsVerifier#forClasses(Iterable)} or
+     * {@link EqualsVerifier#forPackage(String)} instead.
+     */
+    MultipleTypeEqualsVerifier(Iterable<Class<?>> types) {
+        this.types = new ArrayList<>();
+        for (Class<?> type : types) {
+            if (type == null) {
+                throw new NullPointerException("One of the types is null.");
+            }
+            this.types.add(type);
+        }
+    }
+
+    /**
+     * Suppresses warnings given by {@code EqualsVerifier}, for all classes.
+     * See {@link EqualsVerifier#suppress(Warning...)}.
+     *
+     * @param warnings A list of warnings to suppress in
+     *          {@code EqualsVerifier}.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifier suppress(Warning... warnings) {
+        Collections.addAll(warningsToSuppress, warnings);
+        return this;
+    }
+
+    /**
+     * Adds prefabricated values for instance fields of classes that
+     * EqualsVerifier cannot instantiate by itself, for all classes. See
+     * {@link EqualsVerifier#withPrefabValues(Class, Object, Object)}.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param red An instance of {@code S}.
+     * @param black Another instance of {@code S}, not equal to {@code red}.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If either {@code otherType}, {@code red},
+     *          or {@code black} is null.
+     * @throws IllegalArgumentException If {@code red} equals {@code black}.
+     */
+    public <S> MultipleTypeEqualsVerifier withPrefabValues(Class<S> otherType, S red, S black) {
+        EqualsVerifier.addPrefabValues(prefabValues, otherType, red, black);
+        addedPrefabValues.add(ResultCache.PrefabEntry.of(otherType, red, black));
+        return this;
+    }
+
+    /**
+     * Signals that {@code getClass} is used in the implementation of the
+     * {@code equals} method of all classes. See
+     * {@link EqualsVerifier#usingGetClass()}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifier usingGetClass() {
+        usingGetClass = true;
+        return this;
+    }
+
+    /**
+     * Makes the prefabricated values available to other verifiers as well.
+     * See {@link EqualsVerifier#withSharedPrefabValueCache()}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifier withSharedPrefabValueCache() {
+        prefabValues.useSharedCache(SharedTupleCache.getInstance());
+        return this;
+    }
+
+    /**
+     * Reports how much time and work the verification of each class took to
+     * the given listener. See
+     * {@link EqualsVerifier#withVerificationListener(VerificationListener)}.
+     *
+     * @param verificationListener The listener to report to.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifier withVerificationListener(VerificationListener verificationListener) {
+        if (verificationListener == null) {
+            throw new NullPointerException("Listener is null");
+        }
+        listener = verificationListener;
+        return this;
+    }
+
+    /**
+     * Remembers successful verifications in the given directory, and skips
+     * the verification of classes that succeeded before and haven't changed
+     * since. See {@link EqualsVerifier#withResultCache(File)}.
+     *
+     * @param directory The directory that contains the cached results.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifier withResultCache(File directory) {
+        if (directory == null) {
+            throw new NullPointerException("Directory is null");
+        }
+        resultCacheDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Verifies the classes in parallel, each on its own thread from a
+     * {@link ForkJoinPool} that is sized to the number of available
+     * processors, and that is shut down when the verification is done.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifier inParallel() {
+        parallel = true;
+        executor = null;
+        return this;
+    }
+
+    /**
+     * Verifies the classes in parallel, each as a separate task on the given
+     * executor. The executor is not shut down when the verification is done.
+     *
+     * @param verificationExecutor The executor on which to run the
+     *          verification of each class.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifier withExecutor(Executor verificationExecutor) {
+        if (verificationExecutor == null) {
+            throw new NullPointerException("Executor is null");
+        }
+        parallel = true;
+        executor = verificationExecutor;
+        return this;
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode} for all classes.
+     *
+     * @throws AssertionError If the contract is not met for one or more of
+     *          the classes. The message contains the problems of all of
+     *          them.
+     */
+    public void verify() {
+        List<EqualsVerifierReport> failures = new ArrayList<>();
+        for (EqualsVerifierReport report : report()) {
+            if (!report.isSuccessful()) {
+                failures.add(report);
+            }
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        AssertionError error = new AssertionError(buildMessage(failures));
+        if (failures.size() == 1) {
+            error.initCause(failures.get(0).getCause());
+        }
+        throw error;
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode} for all classes, and returns the outcomes instead of
+     * throwing them.
+     *
+     * @return A report for each class, in the order in which they were given.
+     */
+    public List<EqualsVerifierReport> report() {
+        if (!parallel) {
+            List<EqualsVerifierReport> result = new ArrayList<>();
+            for (Class<?> type : types) {
+                result.add(verifierFor(type, prefabValues).report());
+            }
+            return result;
+        }
+        if (executor != null) {
+            return reportInParallel(executor);
+        }
+
+        ExecutorService pool = new ForkJoinPool();
+        try {
+            return reportInParallel(pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<EqualsVerifierReport> reportInParallel(Executor verificationExecutor) {
+        List<FutureTask<EqualsVerifierReport>> tasks = new ArrayList<>();
+        for (final Class<?> type : types) {
+            final PrefabValues layer = prefabValues.newLayer();
+            FutureTask<EqualsVerifierReport> task = new FutureTask<>(new Callable<EqualsVerifierReport>() {
+                @Override
+                public EqualsVerifierReport call() {
+                    return verifierFor(type, layer).report();
+                }
+            });
+            verificationExecutor.execute(task);
+            tasks.add(task);
+        }
+
+        List<EqualsVerifierReport> result = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            result.add(await(tasks.get(i), types.get(i)));
+        }
+        return result;
+    }
+
+    private static EqualsVerifierReport await(FutureTask<EqualsVerifierReport> task, Class<?> type) {
+        try {
+            return task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EqualsVerifierReport.failure(type, "Verification was interrupted.", e, 0);
+        }
+        catch (ExecutionException e) {
+            return EqualsVerifierReport.failure(type, String.valueOf(e.getCause()), e.getCause(), 0);
+        }
+    }
+
+    private <T> EqualsVerifier<T> verifierFor(Class<T> type, PrefabValues values) {
+        EqualsVerifier<T> result = new EqualsVerifier<>(Configuration.of(type, values));
+        if (!warningsToSuppress.isEmpty()) {
+            result.suppress(warningsToSuppress.toArray(new Warning[warningsToSuppress.size()]));
+        }
+        if (usingGetClass) {
+            result.usingGetClass();
+        }
+        if (listener != null) {
+            result.withVerificationListener(listener);
+        }
+        if (resultCacheDirectory != null) {
+            result.withResultCache(resultCacheDirectory);
+        }
+        result.withAddedPrefabValues(addedPrefabValues);
+        return result;
+    }
+
+    private static String buildMessage(List<EqualsVerifierReport> failures) {
+        StringBuilder result = new StringBuilder();
+        result.append("EqualsVerifier found a problem in ")
+                .append(failures.size())
+                .append(failures.size() == 1 ? " class." : " classes.");
+        for (EqualsVerifierReport report : failures) {
+            result.append("\n* ").append(report.getType().getName());
+        }
+        for (EqualsVerifierReport report : failures) {
+            result.append("\n---\n").append(report.getMessage());
+        }
+        return result.toString();
+    }
+}
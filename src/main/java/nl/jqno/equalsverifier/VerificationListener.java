@@ -0,0 +1,22 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * Receives the metrics of each verification that {@link EqualsVerifier}
+ * performs, for example to find out which classes in a test suite are slow
+ * to verify, and why.
+ *
+ * @see EqualsVerifier#withVerificationListener(VerificationListener)
+ * @see VerificationSummary
+ */
+public interface VerificationListener {
+    /**
+     * Called when the verification of a class has finished, whether it was
+     * successful or not.
+     *
+     * When classes are verified in parallel, this method is called from the
+     * thread that verified the class, so it must be thread-safe.
+     *
+     * @param metrics The metrics of the verification.
+     */
+    void verified(VerificationMetrics metrics);
+}
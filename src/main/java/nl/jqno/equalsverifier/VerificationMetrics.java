@@ -0,0 +1,116 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.internal.util.VerificationCounters;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Describes how much time and work the verification of a single class took.
+ *
+ * @see VerificationListener
+ */
+public final class VerificationMetrics {
+    private final Class<?> type;
+    private final boolean successful;
+    private final long totalNanos;
+    private final Map<String, Long> checkerNanos;
+    private final long instantiations;
+    private final long tupleHits;
+    private final long tupleMisses;
+    private final long classesScanned;
+    private final long dynamicSubclasses;
+
+    private VerificationMetrics(Class<?> type, boolean successful, long totalNanos, VerificationCounters counters) {
+        this.type = type;
+        this.successful = successful;
+        this.totalNanos = totalNanos;
+        this.checkerNanos = Collections.unmodifiableMap(new LinkedHashMap<>(counters.getTimes()));
+        this.instantiations = counters.getInstantiations();
+        this.tupleHits = counters.getTupleHits();
+        this.tupleMisses = counters.getTupleMisses();
+        this.classesScanned = counters.getClassesScanned();
+        this.dynamicSubclasses = counters.getDynamicSubclasses();
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param type The class that was verified.
+     * @param successful Whether the verification was successful.
+     * @param totalNanos The time the whole verification took.
+     * @param counters The counters that were active during the verification.
+     * @return The metrics of the verification.
+     */
+    static VerificationMetrics of(Class<?> type, boolean successful, long totalNanos, VerificationCounters counters) {
+        return new VerificationMetrics(type, successful, totalNanos, counters);
+    }
+
+    /**
+     * Getter.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Getter.
+     */
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    /**
+     * Getter. Returns the time the whole verification took, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Getter. Returns the time each checker took, in nanoseconds, keyed by
+     * the checker's simple class name, in the order in which they ran. When
+     * a checker fails, the checkers after it don't run and are absent.
+     */
+    public Map<String, Long> getCheckerNanos() {
+        return checkerNanos;
+    }
+
+    /**
+     * Getter. Returns the number of objects that were instantiated.
+     */
+    public long getInstantiations() {
+        return instantiations;
+    }
+
+    /**
+     * Getter. Returns how often a prefabricated value was already available.
+     */
+    public long getPrefabValueHits() {
+        return tupleHits;
+    }
+
+    /**
+     * Getter. Returns how often a prefabricated value had to be created.
+     */
+    public long getPrefabValueMisses() {
+        return tupleMisses;
+    }
+
+    /**
+     * Getter. Returns the number of class files that were read to find
+     * annotations.
+     */
+    public long getClassesScanned() {
+        return classesScanned;
+    }
+
+    /**
+     * Getter. Returns the number of subclasses that were generated at
+     * runtime.
+     */
+    public long getDynamicSubclassesGenerated() {
+        return dynamicSubclasses;
+    }
+}
@@ -0,0 +1,98 @@
+package nl.jqno.equalsverifier;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link VerificationListener} that collects the metrics of all
+ * verifications it is registered with, and prints the slowest ones.
+ *
+ * Use, for example, by keeping an instance in a static field of a test
+ * suite, registering it with every {@link EqualsVerifier}, and calling
+ * {@link #printSlowest(PrintStream, int)} when the suite is done.
+ */
+public final class VerificationSummary implements VerificationListener {
+    private static final Comparator<VerificationMetrics> SLOWEST_FIRST = new Comparator<VerificationMetrics>() {
+        @Override
+        public int compare(VerificationMetrics o1, VerificationMetrics o2) {
+            return Long.compare(o2.getTotalNanos(), o1.getTotalNanos());
+        }
+    };
+
+    private final ConcurrentLinkedQueue<VerificationMetrics> metrics = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void verified(VerificationMetrics verificationMetrics) {
+        metrics.add(verificationMetrics);
+    }
+
+    /**
+     * Returns the metrics collected so far, slowest first.
+     *
+     * @return The collected metrics.
+     */
+    public List<VerificationMetrics> getMetrics() {
+        List<VerificationMetrics> result = new ArrayList<>(metrics);
+        Collections.sort(result, SLOWEST_FIRST);
+        return result;
+    }
+
+    /**
+     * Prints the slowest verifications collected so far, with the checker
+     * that took most of their time and the work they did.
+     *
+     * @param out The stream to print to.
+     * @param count The maximum number of verifications to print.
+     */
+    public void printSlowest(PrintStream out, int count) {
+        List<VerificationMetrics> sorted = getMetrics();
+        long total = 0;
+        for (VerificationMetrics m : sorted) {
+            total += m.getTotalNanos();
+        }
+
+        out.println("EqualsVerifier: verified " + sorted.size() + " classes in " + millis(total) + " ms.");
+        for (VerificationMetrics m : sorted.subList(0, Math.min(count, sorted.size()))) {
+            out.println(describe(m));
+        }
+    }
+
+    private static String describe(VerificationMetrics m) {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("%8d ms  %s", millis(m.getTotalNanos()), m.getType().getName()));
+        if (!m.isSuccessful()) {
+            result.append(" (failed)");
+        }
+
+        Map.Entry<String, Long> slowest = null;
+        for (Map.Entry<String, Long> entry : m.getCheckerNanos().entrySet()) {
+            if (slowest == null || entry.getValue() > slowest.getValue()) {
+                slowest = entry;
+            }
+        }
+        if (slowest != null) {
+            result.append("\n             slowest checker: ")
+                    .append(slowest.getKey())
+                    .append(" (")
+                    .append(millis(slowest.getValue()))
+                    .append(" ms)");
+        }
+
+        result.append("\n             instances: ").append(m.getInstantiations())
+                .append(", prefab values: ").append(m.getPrefabValueHits()).append(" hits/")
+                .append(m.getPrefabValueMisses()).append(" misses")
+                .append(", classes scanned: ").append(m.getClassesScanned())
+                .append(", subclasses generated: ").append(m.getDynamicSubclassesGenerated());
+        return result.toString();
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -40,9 +40,12 @@ public class CachedHashCodeChecker<T> implements Checker {
             int actualHashCode = reference.hashCode();
             int recomputedHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
 
-            assertEquals(Formatter.of("Cached hashCode: hashCode is not properly initialized."), actualHashCode, recomputedHashCode);
-            assertFalse(Formatter.of("Cached hashCode: example.hashCode() cannot be zero. Please choose a different example."),
-                    actualHashCode == 0);
+            if (actualHashCode != recomputedHashCode) {
+                fail(Formatter.of("Cached hashCode: hashCode is not properly initialized."));
+            }
+            if (actualHashCode == 0) {
+                fail(Formatter.of("Cached hashCode: example.hashCode() cannot be zero. Please choose a different example."));
+            }
         }
     }
 }
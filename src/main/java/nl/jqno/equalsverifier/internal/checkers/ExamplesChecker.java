@@ -49,18 +49,22 @@ public class ExamplesChecker<T> implements Checker {
 
     private void checkPreconditions() {
         for (T example : equalExamples) {
-            assertTrue(Formatter.of("Precondition:\n  %%\nand\n  %%\nare of different classes", equalExamples.get(0), example),
-                    type.isAssignableFrom(example.getClass()));
+            if (!type.isAssignableFrom(example.getClass())) {
+                fail(Formatter.of("Precondition:\n  %%\nand\n  %%\nare of different classes", equalExamples.get(0), example));
+            }
         }
     }
 
     private void checkEqualButNotIdentical(T reference, T other) {
-        assertFalse(Formatter.of("Precondition: the same object appears twice:\n  %%", reference),
-                reference == other);
-        assertFalse(Formatter.of("Precondition: two identical objects appear:\n  %%", reference),
-                isIdentical(reference, other));
-        assertTrue(Formatter.of("Precondition: not all equal objects are equal:\n  %%\nand\n  %%", reference, other),
-                reference.equals(other));
+        if (reference == other) {
+            fail(Formatter.of("Precondition: the same object appears twice:\n  %%", reference));
+        }
+        if (isIdentical(reference, other)) {
+            fail(Formatter.of("Precondition: two identical objects appear:\n  %%", reference));
+        }
+        if (!reference.equals(other)) {
+            fail(Formatter.of("Precondition: not all equal objects are equal:\n  %%\nand\n  %%", reference, other));
+        }
     }
 
     private void checkSingle(T reference) {
@@ -73,15 +77,18 @@ public class ExamplesChecker<T> implements Checker {
     }
 
     private void checkReflexivity(T reference) {
-        assertEquals(Formatter.of("Reflexivity: object does not equal itself:\n  %%", reference),
-                reference, reference);
+        if (!reference.equals(reference)) {
+            fail(Formatter.of("Reflexivity: object does not equal itself:\n  %%", reference));
+        }
     }
 
     @SuppressFBWarnings(value = "EC_NULL_ARG", justification = "Check what happens when null is passed into equals.")
     private void checkNonNullity(T reference) {
         try {
             boolean nullity = reference.equals(null);
-            assertFalse(Formatter.of("Non-nullity: true returned for null value"), nullity);
+            if (nullity) {
+                fail(Formatter.of("Non-nullity: true returned for null value"));
+            }
         }
         catch (NullPointerException e) {
             fail(Formatter.of("Non-nullity: NullPointerException thrown"), e);
@@ -92,8 +99,9 @@ public class ExamplesChecker<T> implements Checker {
         class SomethingElse {}
         SomethingElse somethingElse = new SomethingElse();
         try {
-            assertFalse(Formatter.of("Type-check: equals returns true for an unrelated type.\nAdd an instanceof or getClass() check."),
-                    reference.equals(somethingElse));
+            if (reference.equals(somethingElse)) {
+                fail(Formatter.of("Type-check: equals returns true for an unrelated type.\nAdd an instanceof or getClass() check."));
+            }
         }
         catch (AssertionException e) {
             throw e;
@@ -108,17 +116,19 @@ public class ExamplesChecker<T> implements Checker {
 
     private void checkHashCode(T reference, T copy) {
         int referenceHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
-        assertEquals(Formatter.of("hashCode: hashCode should be consistent:\n  %% (%%)", reference, referenceHashCode),
-                referenceHashCode, cachedHashCodeInitializer.getInitializedHashCode(reference));
+        if (referenceHashCode != cachedHashCodeInitializer.getInitializedHashCode(reference)) {
+            fail(Formatter.of("hashCode: hashCode should be consistent:\n  %% (%%)", reference, referenceHashCode));
+        }
 
         if (!reference.equals(copy)) {
             return;
         }
 
         int copyHashCode = cachedHashCodeInitializer.getInitializedHashCode(copy);
-        Formatter f = Formatter.of("hashCode: hashCodes should be equal:\n  %% (%%)\nand\n  %% (%%)",
-                reference, referenceHashCode, copy, copyHashCode);
-        assertEquals(f, referenceHashCode, copyHashCode);
+        if (referenceHashCode != copyHashCode) {
+            fail(Formatter.of("hashCode: hashCodes should be equal:\n  %% (%%)\nand\n  %% (%%)",
+                    reference, referenceHashCode, copy, copyHashCode));
+        }
     }
 
     private boolean isIdentical(T reference, T other) {
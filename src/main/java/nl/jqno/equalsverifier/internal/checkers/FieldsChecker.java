@@ -16,8 +16,10 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
@@ -44,24 +46,27 @@ public class FieldsChecker<T> implements Checker {
     @Override
     public void check() {
         FieldInspector<T> inspector = new FieldInspector<>(classAccessor, typeTag);
+        List<FieldInspector.FieldCheck> checks = new ArrayList<>();
 
         if (!classAccessor.isEqualsInheritedFromObject()) {
-            inspector.check(new ArrayFieldCheck());
-            inspector.check(new FloatAndDoubleFieldCheck());
-            inspector.check(new ReflexivityFieldCheck());
+            checks.add(new ArrayFieldCheck());
+            checks.add(new FloatAndDoubleFieldCheck());
+            checks.add(new ReflexivityFieldCheck());
         }
 
         if (!ignoreMutability()) {
-            inspector.check(new MutableStateFieldCheck());
+            checks.add(new MutableStateFieldCheck());
         }
 
         if (!warningsToSuppress.contains(Warning.TRANSIENT_FIELDS)) {
-            inspector.check(new TransientFieldsCheck());
+            checks.add(new TransientFieldsCheck());
         }
 
-        inspector.check(new SignificantFieldCheck(false));
-        inspector.check(new SymmetryFieldCheck());
-        inspector.check(new TransitivityFieldCheck());
+        checks.add(new SignificantFieldCheck(false));
+        checks.add(new SymmetryFieldCheck());
+        checks.add(new TransitivityFieldCheck());
+
+        inspector.check(checks.toArray(new FieldInspector.FieldCheck[checks.size()]));
 
         if (!warningsToSuppress.contains(Warning.NULL_FIELDS)) {
             inspector.checkWithNull(nonnullFields, new SignificantFieldCheck(true));
@@ -93,17 +98,21 @@ public class FieldsChecker<T> implements Checker {
         private void checkSymmetry(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
             Object left = referenceAccessor.getObject();
             Object right = changedAccessor.getObject();
-            assertTrue(Formatter.of("Symmetry: objects are not symmetric:\n  %%\nand\n  %%", left, right),
-                    left.equals(right) == right.equals(left));
+            if (left.equals(right) != right.equals(left)) {
+                fail(Formatter.of("Symmetry: objects are not symmetric:\n  %%\nand\n  %%", left, right));
+            }
         }
     }
 
     private class TransitivityFieldCheck implements FieldInspector.FieldCheck {
+        private ObjectAccessor<Object> b2Template = null;
+        private Object b2Copy = null;
+
         @Override
         public void execute(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
             Object a1 = referenceAccessor.getObject();
             Object b1 = buildB1(changedAccessor);
-            Object b2 = buildB2(a1, referenceAccessor.getField());
+            Object b2 = buildB2(a1);
 
             boolean x = a1.equals(b1);
             boolean y = b1.equals(b2);
@@ -122,16 +131,21 @@ public class FieldsChecker<T> implements Checker {
             return accessor.getObject();
         }
 
-        private Object buildB2(Object a1, Field referenceField) {
-            Object result = ObjectAccessor.of(a1).copy();
-            ObjectAccessor<?> objectAccessor = ObjectAccessor.of(result);
-            objectAccessor.fieldAccessorFor(referenceField).changeField(prefabValues, typeTag);
-            for (Field field : FieldIterable.of(result.getClass())) {
-                if (!field.equals(referenceField)) {
-                    objectAccessor.fieldAccessorFor(field).changeField(prefabValues, typeTag);
+        // b2 is a1 with all of its fields changed. a1 is in the same state for
+        // every field, so b2 is built only once, and restored by copying
+        // before each use, in case equals modified it.
+        private Object buildB2(Object a1) {
+            if (b2Template == null) {
+                b2Template = ObjectAccessor.of(ObjectAccessor.of(a1).copy());
+                for (Field field : FieldIterable.of(a1.getClass())) {
+                    b2Template.fieldAccessorFor(field).changeField(prefabValues, typeTag);
                 }
+                b2Copy = b2Template.copy();
             }
-            return result;
+            else {
+                b2Template.copyTo(b2Copy);
+            }
+            return b2Copy;
         }
 
         private int countFalses(boolean... bools) {
@@ -186,18 +200,18 @@ public class FieldsChecker<T> implements Checker {
             if (equalsChanged != hashCodeChanged) {
                 boolean skipEqualsHasMoreThanHashCodeTest =
                         warningsToSuppress.contains(Warning.STRICT_HASHCODE) || skipTestBecause0AndNullBothHaveA0HashCode;
-                if (!skipEqualsHasMoreThanHashCodeTest) {
-                    Formatter formatter = Formatter.of(
+                if (!skipEqualsHasMoreThanHashCodeTest && equalsChanged) {
+                    fail(Formatter.of(
                             "Significant fields: equals relies on %%, but hashCode does not." +
                             "\n  %% has hashCode %%\n  %% has hashCode %%",
-                            fieldName, reference, reference.hashCode(), changed, changed.hashCode());
-                    assertFalse(formatter, equalsChanged);
+                            fieldName, reference, reference.hashCode(), changed, changed.hashCode()));
+                }
+                if (hashCodeChanged) {
+                    fail(Formatter.of(
+                            "Significant fields: hashCode relies on %%, but equals does not." +
+                            "\nThese objects are equal, but probably shouldn't be:\n  %%\nand\n  %%",
+                            fieldName, reference, changed));
                 }
-                Formatter formatter = Formatter.of(
-                        "Significant fields: hashCode relies on %%, but equals does not." +
-                        "\nThese objects are equal, but probably shouldn't be:\n  %%\nand\n  %%",
-                        fieldName, reference, changed);
-                assertFalse(formatter, hashCodeChanged);
             }
         }
 
@@ -213,13 +227,17 @@ public class FieldsChecker<T> implements Checker {
                     !referenceAccessor.fieldIsEmptyOrSingleValueEnum();
 
             if (allFieldsShouldBeUsed && fieldIsEligible) {
-                assertTrue(Formatter.of("Significant fields: equals does not use %%.", fieldName), equalToItself);
+                if (!equalToItself) {
+                    fail(Formatter.of("Significant fields: equals does not use %%.", fieldName));
+                }
 
                 boolean fieldShouldBeIgnored = ignoredFields.contains(fieldName);
-                assertTrue(Formatter.of("Significant fields: equals does not use %%, or it is stateless.", fieldName),
-                        fieldShouldBeIgnored || equalsChanged);
-                assertTrue(Formatter.of("Significant fields: equals should not use %%, but it does.", fieldName),
-                        !fieldShouldBeIgnored || !equalsChanged);
+                if (!fieldShouldBeIgnored && !equalsChanged) {
+                    fail(Formatter.of("Significant fields: equals does not use %%, or it is stateless.", fieldName));
+                }
+                if (fieldShouldBeIgnored && equalsChanged) {
+                    fail(Formatter.of("Significant fields: equals should not use %%, but it does.", fieldName));
+                }
             }
         }
     }
@@ -272,23 +290,29 @@ public class FieldsChecker<T> implements Checker {
         }
 
         private void assertDeep(String fieldName, Object reference, Object changed) {
-            Formatter eqEqFormatter = Formatter.of(
-                    "Multidimensional array: ==, regular equals() or Arrays.equals() used instead of Arrays.deepEquals() for field %%.",
-                    fieldName);
-            assertEquals(eqEqFormatter, reference, changed);
-
-            Formatter regularFormatter = Formatter.of(
-                    "Multidimensional array: regular hashCode() or Arrays.hashCode() used instead of Arrays.deepHashCode() for field %%.",
-                    fieldName);
-            assertEquals(regularFormatter,
-                    cachedHashCodeInitializer.getInitializedHashCode(reference), cachedHashCodeInitializer.getInitializedHashCode(changed));
+            if (!reference.equals(changed)) {
+                fail(Formatter.of(
+                        "Multidimensional array: ==, regular equals() or Arrays.equals() used instead of Arrays.deepEquals() for field %%.",
+                        fieldName));
+            }
+            if (!hashCodesAreEqual(reference, changed)) {
+                fail(Formatter.of(
+                        "Multidimensional array: regular hashCode() or Arrays.hashCode() used instead of Arrays.deepHashCode() for field %%.",
+                        fieldName));
+            }
         }
 
         private void assertArray(String fieldName, Object reference, Object changed) {
-            assertEquals(Formatter.of("Array: == or regular equals() used instead of Arrays.equals() for field %%.", fieldName),
-                    reference, changed);
-            assertEquals(Formatter.of("Array: regular hashCode() used instead of Arrays.hashCode() for field %%.", fieldName),
-                    cachedHashCodeInitializer.getInitializedHashCode(reference), cachedHashCodeInitializer.getInitializedHashCode(changed));
+            if (!reference.equals(changed)) {
+                fail(Formatter.of("Array: == or regular equals() used instead of Arrays.equals() for field %%.", fieldName));
+            }
+            if (!hashCodesAreEqual(reference, changed)) {
+                fail(Formatter.of("Array: regular hashCode() used instead of Arrays.hashCode() for field %%.", fieldName));
+            }
+        }
+
+        private boolean hashCodesAreEqual(Object reference, Object changed) {
+            return cachedHashCodeInitializer.getInitializedHashCode(reference) == cachedHashCodeInitializer.getInitializedHashCode(changed);
         }
     }
 
@@ -299,14 +323,16 @@ public class FieldsChecker<T> implements Checker {
             if (isFloat(type)) {
                 referenceAccessor.set(Float.NaN);
                 changedAccessor.set(Float.NaN);
-                assertEquals(Formatter.of("Float: equals doesn't use Float.compare for field %%.", referenceAccessor.getFieldName()),
-                        referenceAccessor.getObject(), changedAccessor.getObject());
+                if (!referenceAccessor.getObject().equals(changedAccessor.getObject())) {
+                    fail(Formatter.of("Float: equals doesn't use Float.compare for field %%.", referenceAccessor.getFieldName()));
+                }
             }
             if (isDouble(type)) {
                 referenceAccessor.set(Double.NaN);
                 changedAccessor.set(Double.NaN);
-                assertEquals(Formatter.of("Double: equals doesn't use Double.compare for field %%.", referenceAccessor.getFieldName()),
-                        referenceAccessor.getObject(), changedAccessor.getObject());
+                if (!referenceAccessor.getObject().equals(changedAccessor.getObject())) {
+                    fail(Formatter.of("Double: equals doesn't use Double.compare for field %%.", referenceAccessor.getFieldName()));
+                }
             }
         }
 
@@ -360,12 +386,13 @@ public class FieldsChecker<T> implements Checker {
             referenceAccessor.set(prefabValues.giveRed(tag));
             changedAccessor.set(prefabValues.giveRedCopy(tag));
 
-            Formatter f = Formatter.of("Reflexivity: == used instead of .equals() on field: %%" +
-                    "\nIf this is intentional, consider suppressing Warning.%%",
-                    changedAccessor.getFieldName(), Warning.REFERENCE_EQUALITY.toString());
             Object left = referenceAccessor.getObject();
             Object right = changedAccessor.getObject();
-            assertEquals(f, left, right);
+            if (!left.equals(right)) {
+                fail(Formatter.of("Reflexivity: == used instead of .equals() on field: %%" +
+                        "\nIf this is intentional, consider suppressing Warning.%%",
+                        changedAccessor.getFieldName(), Warning.REFERENCE_EQUALITY.toString()));
+            }
         }
 
         private void checkNullReflexivity(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
@@ -385,13 +412,13 @@ public class FieldsChecker<T> implements Checker {
             Object right = changedAccessor.getObject();
 
             if (warningsToSuppress.contains(Warning.IDENTICAL_COPY)) {
-                assertFalse(Formatter.of("Unnecessary suppression: %%. Two identical copies are equal.", Warning.IDENTICAL_COPY.toString()),
-                        left.equals(right));
+                if (left.equals(right)) {
+                    fail(Formatter.of("Unnecessary suppression: %%. Two identical copies are equal.", Warning.IDENTICAL_COPY.toString()));
+                }
             }
-            else {
-                Formatter f = Formatter.of("Reflexivity: object does not equal an identical copy of itself:\n  %%" +
-                        "\nIf this is intentional, consider suppressing Warning.%%", left, Warning.IDENTICAL_COPY.toString());
-                assertEquals(f, left, right);
+            else if (!left.equals(right)) {
+                fail(Formatter.of("Reflexivity: object does not equal an identical copy of itself:\n  %%" +
+                        "\nIf this is intentional, consider suppressing Warning.%%", left, Warning.IDENTICAL_COPY.toString()));
             }
         }
     }
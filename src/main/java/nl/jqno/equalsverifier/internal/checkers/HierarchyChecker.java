@@ -4,6 +4,7 @@ import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
+import nl.jqno.equalsverifier.internal.reflection.ClassMetadata;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
 import nl.jqno.equalsverifier.internal.util.CachedHashCodeInitializer;
@@ -50,8 +51,7 @@ public class HierarchyChecker<T> implements Checker {
     }
 
     private void checkSuperclass() {
-        ClassAccessor<? super T> superAccessor = classAccessor.getSuperAccessor();
-        if (superAccessor.isEqualsInheritedFromObject()) {
+        if (ClassMetadata.of(type.getSuperclass()).isEqualsInheritedFromObject()) {
             return;
         }
 
@@ -59,10 +59,11 @@ public class HierarchyChecker<T> implements Checker {
             T reference = classAccessor.getRedObject(typeTag);
             Object equalSuper = getEqualSuper(reference);
 
-            Formatter formatter = Formatter.of("Redefined superclass:\n  %%\nshould not equal superclass instance\n  %%\nbut it does.",
-                    reference, equalSuper);
             try {
-                assertFalse(formatter, reference.equals(equalSuper) || equalSuper.equals(reference));
+                if (reference.equals(equalSuper) || equalSuper.equals(reference)) {
+                    fail(Formatter.of("Redefined superclass:\n  %%\nshould not equal superclass instance\n  %%\nbut it does.",
+                            reference, equalSuper));
+                }
             }
             catch (AbstractMethodError ignored) {
                 // In this case, we'll assume all super properties hold.
@@ -92,20 +93,23 @@ public class HierarchyChecker<T> implements Checker {
     }
 
     private void checkSuperProperties(T reference, Object equalSuper, T shallow) {
-        Formatter symmetryFormatter = Formatter.of("Symmetry:\n  %%\ndoes not equal superclass instance\n  %%", reference, equalSuper);
-        assertTrue(symmetryFormatter, reference.equals(equalSuper) && equalSuper.equals(reference));
+        if (!reference.equals(equalSuper) || !equalSuper.equals(reference)) {
+            fail(Formatter.of("Symmetry:\n  %%\ndoes not equal superclass instance\n  %%", reference, equalSuper));
+        }
 
-        Formatter transitivityFormatter = Formatter.of(
-                "Transitivity:\n  %%\nand\n  %%\nboth equal superclass instance\n  %%\nwhich implies they equal each other.",
-                reference, shallow, equalSuper);
-        assertTrue(transitivityFormatter, reference.equals(shallow) || reference.equals(equalSuper) != equalSuper.equals(shallow));
+        if (!reference.equals(shallow) && reference.equals(equalSuper) == equalSuper.equals(shallow)) {
+            fail(Formatter.of(
+                    "Transitivity:\n  %%\nand\n  %%\nboth equal superclass instance\n  %%\nwhich implies they equal each other.",
+                    reference, shallow, equalSuper));
+        }
 
         int referenceHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
         int equalSuperHashCode = cachedHashCodeInitializer.getInitializedHashCode(equalSuper);
-        Formatter superclassFormatter = Formatter.of(
-                "Superclass: hashCode for\n  %% (%%)\nshould be equal to hashCode for superclass instance\n  %% (%%)",
-                reference, referenceHashCode, equalSuper, equalSuperHashCode);
-        assertTrue(superclassFormatter, referenceHashCode == equalSuperHashCode);
+        if (referenceHashCode != equalSuperHashCode) {
+            fail(Formatter.of(
+                    "Superclass: hashCode for\n  %% (%%)\nshould be equal to hashCode for superclass instance\n  %% (%%)",
+                    reference, referenceHashCode, equalSuper, equalSuperHashCode));
+        }
     }
 
     private Object getEqualSuper(T reference) {
@@ -122,18 +126,20 @@ public class HierarchyChecker<T> implements Checker {
         T equalSub = referenceAccessor.copyIntoAnonymousSubclass();
 
         if (config.isUsingGetClass()) {
-            Formatter formatter = Formatter.of(
-                    "Subclass: object is equal to an instance of a trivial subclass with equal fields:" +
-                    "\n  %%\nThis should not happen when using getClass().",
-                    reference);
-            assertFalse(formatter, reference.equals(equalSub));
+            if (reference.equals(equalSub)) {
+                fail(Formatter.of(
+                        "Subclass: object is equal to an instance of a trivial subclass with equal fields:" +
+                        "\n  %%\nThis should not happen when using getClass().",
+                        reference));
+            }
         }
         else {
-            Formatter formatter = Formatter.of(
-                    "Subclass: object is not equal to an instance of a trivial subclass with equal fields:\n  %%\n" +
-                            "Maybe you forgot to add usingGetClass(). Otherwise, consider making the class final.",
-                    reference);
-            assertTrue(formatter, reference.equals(equalSub));
+            if (!reference.equals(equalSub)) {
+                fail(Formatter.of(
+                        "Subclass: object is not equal to an instance of a trivial subclass with equal fields:\n  %%\n" +
+                                "Maybe you forgot to add usingGetClass(). Otherwise, consider making the class final.",
+                        reference));
+            }
         }
     }
 
@@ -142,15 +148,16 @@ public class HierarchyChecker<T> implements Checker {
             return;
         }
 
-        if (methodIsFinal("equals", Object.class)) {
+        if (isFinal(ClassMetadata.of(type).getEqualsMethod(), "equals")) {
             fail(Formatter.of("Subclass: %% has a final equals method.\nNo need to supply a redefined subclass.", type.getSimpleName()));
         }
 
         ObjectAccessor<T> referenceAccessor = classAccessor.getRedAccessor(typeTag);
         T reference = referenceAccessor.get();
         T redefinedSub = referenceAccessor.copyIntoSubclass(redefinedSubclass);
-        assertFalse(Formatter.of("Subclass:\n  %%\nequals subclass instance\n  %%", reference, redefinedSub),
-                reference.equals(redefinedSub));
+        if (reference.equals(redefinedSub)) {
+            fail(Formatter.of("Subclass:\n  %%\nequals subclass instance\n  %%", reference, redefinedSub));
+        }
     }
 
     private void checkFinalEqualsMethod() {
@@ -162,36 +169,35 @@ public class HierarchyChecker<T> implements Checker {
             return;
         }
 
-        boolean equalsIsFinal = methodIsFinal("equals", Object.class);
-        boolean hashCodeIsFinal = methodIsFinal("hashCode");
+        ClassMetadata metadata = ClassMetadata.of(type);
+        boolean equalsIsFinal = isFinal(metadata.getEqualsMethod(), "equals");
+        boolean hashCodeIsFinal = isFinal(metadata.getHashCodeMethod(), "hashCode");
 
         if (config.isUsingGetClass()) {
-            assertEquals(Formatter.of("Finality: equals and hashCode must both be final or both be non-final."),
-                    equalsIsFinal, hashCodeIsFinal);
+            if (equalsIsFinal != hashCodeIsFinal) {
+                fail(Formatter.of("Finality: equals and hashCode must both be final or both be non-final."));
+            }
         }
         else {
-            Formatter equalsFormatter = Formatter.of(
-                    "Subclass: equals is not final." +
-                    "\nMake your class or your equals method final," +
-                    " or supply an instance of a redefined subclass using withRedefinedSubclass if equals cannot be final.");
-            assertTrue(equalsFormatter, equalsIsFinal);
-
-            Formatter hashCodeFormatter = Formatter.of(
-                    "Subclass: hashCode is not final." +
-                    "\nMake your class or your hashCode method final," +
-                    " or supply an instance of a redefined subclass using withRedefinedSubclass if hashCode cannot be final.");
-            assertTrue(hashCodeFormatter, hashCodeIsFinal);
+            if (!equalsIsFinal) {
+                fail(Formatter.of(
+                        "Subclass: equals is not final." +
+                        "\nMake your class or your equals method final," +
+                        " or supply an instance of a redefined subclass using withRedefinedSubclass if equals cannot be final."));
+            }
+            if (!hashCodeIsFinal) {
+                fail(Formatter.of(
+                        "Subclass: hashCode is not final." +
+                        "\nMake your class or your hashCode method final," +
+                        " or supply an instance of a redefined subclass using withRedefinedSubclass if hashCode cannot be final."));
+            }
         }
     }
 
-    private boolean methodIsFinal(String methodName, Class<?>... parameterTypes) {
-        try {
-            Method method = type.getMethod(methodName, parameterTypes);
-            return Modifier.isFinal(method.getModifiers());
-        }
-        catch (SecurityException | NoSuchMethodException e) {
+    private boolean isFinal(Method method, String methodName) {
+        if (method == null) {
             throw new ReflectionException("Should never occur: cannot find " + type.getName() + "." + methodName);
         }
-
+        return Modifier.isFinal(method.getModifiers());
     }
 }
@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.checkers;
 
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
+import nl.jqno.equalsverifier.internal.reflection.ClassMetadata;
 import nl.jqno.equalsverifier.internal.util.Configuration;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -25,7 +25,7 @@ public class SignatureChecker<T> implements Checker {
 
     @Override
     public void check() {
-        List<Method> equalsMethods = getEqualsMethods();
+        List<Method> equalsMethods = ClassMetadata.of(type).getDeclaredEqualsMethods();
         if (equalsMethods.size() > 1) {
             failOverloaded("More than one equals method found");
         }
@@ -46,18 +46,6 @@ public class SignatureChecker<T> implements Checker {
         }
     }
 
-    private List<Method> getEqualsMethods() {
-        List<Method> result = new ArrayList<>();
-
-        for (Method method : type.getDeclaredMethods()) {
-            if (method.getName().equals("equals")) {
-                result.add(method);
-            }
-        }
-
-        return result;
-    }
-
     private void checkEquals(Method equals) {
         Class<?>[] parameterTypes = equals.getParameterTypes();
         if (parameterTypes.length > 1) {
@@ -1,10 +1,10 @@
 package nl.jqno.equalsverifier.internal.exceptions;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 
 /**
  * Signals that a recursion has been detected while traversing the fields of a
@@ -13,15 +13,15 @@ import java.util.LinkedHashSet;
 @SuppressWarnings("serial")
 @SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "EqualsVerifier doesn't serialize.")
 public class RecursionException extends MessagingException {
-    private final LinkedHashSet<TypeTag> typeStack;
+    private final TypeStack typeStack;
 
     /**
      * Constructor.
      *
-     * @param typeStack A collection of types that have been encountered prior
-     *          to detecting the recursion.
+     * @param typeStack The types that have been encountered prior to
+     *          detecting the recursion.
      */
-    public RecursionException(LinkedHashSet<TypeTag> typeStack) {
+    public RecursionException(TypeStack typeStack) {
         super();
         this.typeStack = typeStack;
     }
@@ -12,4 +12,8 @@ public class ReflectionException extends RuntimeException {
     public ReflectionException(Throwable cause) {
         super(cause);
     }
+
+    public ReflectionException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -3,17 +3,58 @@ package nl.jqno.equalsverifier.internal.prefabvalues;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Contains a cache of factories, for {@link PrefabValues}.
+ *
+ * A cache can be layered on top of a base cache. Lookups fall through to the
+ * base when the cache itself has no factory for a type; additions only ever
+ * go into the top layer, so the base can safely be shared.
  */
 class FactoryCache {
+    /**
+     * Factories that were added for a resolved class. They are keyed by the
+     * class itself, so that classes with the same name from different class
+     * loaders don't get mixed up.
+     */
+    private final Map<Class<?>, PrefabValueFactory<?>> classes = new HashMap<>();
+
     /**
      * We store Strings instead of Classes, so that the cache can be lazy
      * and initializers won't be called until the class is actually needed.
      */
-    private final Map<String, PrefabValueFactory<?>> cache = new HashMap<>();
+    private final Map<String, PrefabValueFactory<?>> names = new HashMap<>();
+
+    /**
+     * The factory that this layer has for each class that was looked up, or
+     * the fact that it has none, so that subsequent lookups don't have to
+     * match the class name again. A ClassValue doesn't keep the classes
+     * alive, which matters because base layers are shared for the lifetime
+     * of the JVM. It is replaced when a factory is added.
+     */
+    private ClassValue<Resolution> resolved = newResolved();
+
+    private final FactoryCache base;
+    private Fingerprint fingerprint;
+
+    /**
+     * Constructor for a cache without a base layer.
+     */
+    public FactoryCache() {
+        this(null);
+    }
+
+    /**
+     * Constructor for a cache that is layered on top of the given cache.
+     *
+     * @param base The cache to fall back on. Is never modified. May be null.
+     */
+    public FactoryCache(FactoryCache base) {
+        this.base = base;
+    }
 
     /**
      * Adds the given factory to the cache and associates it with the given
@@ -21,7 +62,9 @@ class FactoryCache {
      */
     public <T> void put(Class<?> type, PrefabValueFactory<T> factory) {
         if (type != null) {
-            cache.put(type.getName(), factory);
+            names.remove(type.getName());
+            classes.put(type, factory);
+            invalidate();
         }
     }
 
@@ -31,28 +74,110 @@ class FactoryCache {
      */
     public <T> void put(String typeName, PrefabValueFactory<T> factory) {
         if (typeName != null) {
-            cache.put(typeName, factory);
+            Iterator<Class<?>> it = classes.keySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().getName().equals(typeName)) {
+                    it.remove();
+                }
+            }
+            names.put(typeName, factory);
+            invalidate();
         }
     }
 
     /**
      * Retrieves the factory from the cache for the given type.
      *
-     * What happens when there is no factory, is undefined. Always call
-     * {@link #contains(Class)} first.
+     * @return The factory, or null if there is no factory for the given type.
      */
     @SuppressWarnings("unchecked")
     public <T> PrefabValueFactory<T> get(Class<T> type) {
         if (type == null) {
             return null;
         }
-        return (PrefabValueFactory<T>)cache.get(type.getName());
+        PrefabValueFactory<T> result = (PrefabValueFactory<T>)resolved.get(type).factory;
+        if (result == null && base != null) {
+            return base.get(type);
+        }
+        return result;
     }
 
     /**
      * Returns whether a factory is available for the given type.
      */
     public boolean contains(Class<?> type) {
-        return cache.containsKey(type.getName());
+        return get(type) != null;
+    }
+
+    private PrefabValueFactory<?> resolve(Class<?> type) {
+        PrefabValueFactory<?> result = classes.get(type);
+        if (result == null) {
+            result = names.get(type.getName());
+        }
+        return result;
+    }
+
+    private ClassValue<Resolution> newResolved() {
+        return new ClassValue<Resolution>() {
+            @Override
+            protected Resolution computeValue(Class<?> type) {
+                return new Resolution(resolve(type));
+            }
+        };
+    }
+
+    private void invalidate() {
+        resolved = newResolved();
+        fingerprint = null;
+    }
+
+    /**
+     * Returns an object that is equal to the fingerprint of another cache if
+     * both caches, and all their base layers, have equal factories. Factories
+     * that don't override {@code equals} only match themselves.
+     */
+    public Object fingerprint() {
+        if (fingerprint == null) {
+            Object baseFingerprint = base == null ? null : base.fingerprint();
+            fingerprint = new Fingerprint(baseFingerprint, new HashMap<>(classes), new HashMap<>(names));
+        }
+        return fingerprint;
+    }
+
+    private static final class Resolution {
+        private final PrefabValueFactory<?> factory;
+
+        private Resolution(PrefabValueFactory<?> factory) {
+            this.factory = factory;
+        }
+    }
+
+    private static final class Fingerprint {
+        private final Object base;
+        private final Map<Class<?>, PrefabValueFactory<?>> classes;
+        private final Map<String, PrefabValueFactory<?>> names;
+        private final int hashCode;
+
+        private Fingerprint(Object base, Map<Class<?>, PrefabValueFactory<?>> classes, Map<String, PrefabValueFactory<?>> names) {
+            this.base = base;
+            this.classes = classes;
+            this.names = names;
+            this.hashCode = Objects.hash(base, classes, names);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint other = (Fingerprint)obj;
+            return hashCode == other.hashCode && Objects.equals(base, other.base) &&
+                    classes.equals(other.classes) && names.equals(other.names);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 }
@@ -58,6 +58,39 @@ public final class JavaApiPrefabValues {
         new JavaApiPrefabValues(prefabValues).addJavaClasses();
     }
 
+    /**
+     * Creates a new {@link PrefabValues} that contains the instances of Java
+     * API classes that cannot be instantiated dynamically.
+     *
+     * These instances are created only once, the first time this method is
+     * called, and are shared by all {@link PrefabValues} that this method
+     * returns. Factories that are added to the result do not affect the
+     * shared instances.
+     *
+     * @return A new {@link PrefabValues}, layered on top of the shared Java
+     *          API instances.
+     */
+    public static PrefabValues newPrefabValues() {
+        return SharedInstances.BASE.newLayer();
+    }
+
+    /**
+     * Holds the shared Java API instances. The JVM's class initialization
+     * guarantees that they are built lazily and exactly once, and that they
+     * are safely published to all threads.
+     */
+    private static final class SharedInstances {
+        private static final PrefabValues BASE = createBase();
+
+        private SharedInstances() {}
+
+        private static PrefabValues createBase() {
+            PrefabValues result = new PrefabValues();
+            addTo(result);
+            return result;
+        }
+    }
+
     private void addJavaClasses() {
         addPrimitiveClasses();
         addClasses();
@@ -263,7 +296,7 @@ public final class JavaApiPrefabValues {
         addFactory(DelayQueue.class, new PrefabValueFactory<DelayQueue>() {
             @SuppressWarnings("unchecked")
             @Override
-            public Tuple<DelayQueue> createValues(TypeTag tag, PrefabValues pf, LinkedHashSet<TypeTag> typeStack) {
+            public Tuple<DelayQueue> createValues(TypeTag tag, PrefabValues pf, TypeStack typeStack) {
                 TypeTag delayed = new TypeTag(Delayed.class);
                 DelayQueue red = new DelayQueue<>();
                 red.add(pf.<Delayed>giveRed(delayed));
@@ -312,53 +345,38 @@ public final class JavaApiPrefabValues {
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void addJava8ApiClasses() {
         String optional = "java.util.Optional";
-        addFactory(classForName(optional), new ReflectiveGenericContainerFactory(optional, "of", Object.class));
-
-        ConditionalInstantiator localDateTime = new ConditionalInstantiator("java.time.LocalDateTime");
-        addValues(localDateTime.resolve(),
-                localDateTime.returnConstant("MIN"),
-                localDateTime.returnConstant("MAX"),
-                localDateTime.returnConstant("MIN"));
-        ConditionalInstantiator localDate = new ConditionalInstantiator("java.time.LocalDate");
-        addValues(localDate.resolve(),
-                localDate.returnConstant("MIN"),
-                localDate.returnConstant("MAX"),
-                localDate.returnConstant("MIN"));
-        ConditionalInstantiator localTime = new ConditionalInstantiator("java.time.LocalTime");
-        addValues(localTime.resolve(),
-                localTime.returnConstant("MIN"),
-                localTime.returnConstant("MAX"),
-                localTime.returnConstant("MIN"));
-        ConditionalInstantiator zonedDateTime = new ConditionalInstantiator("java.time.ZonedDateTime");
-        addValues(zonedDateTime.resolve(),
-                zonedDateTime.callFactory("parse", classes(CharSequence.class), objects("2017-12-13T10:15:30+01:00")),
-                zonedDateTime.callFactory("parse", classes(CharSequence.class), objects("2016-11-12T09:14:29-01:00")),
-                zonedDateTime.callFactory("parse", classes(CharSequence.class), objects("2017-12-13T10:15:30+01:00")));
-        ConditionalInstantiator zoneId = new ConditionalInstantiator("java.time.ZoneId");
-        addValues(zoneId.resolve(),
-                zoneId.callFactory("of", classes(String.class), objects("+1")),
-                zoneId.callFactory("of", classes(String.class), objects("-10")),
-                zoneId.callFactory("of", classes(String.class), objects("+1")));
-        ConditionalInstantiator zoneOffset = new ConditionalInstantiator("java.time.ZoneOffset");
-        addValues(zoneOffset.resolve(),
-                zoneOffset.callFactory("ofHours", classes(int.class), objects(1)),
-                zoneOffset.callFactory("ofHours", classes(int.class), objects(-1)),
-                zoneOffset.callFactory("ofHours", classes(int.class), objects(1)));
-        ConditionalInstantiator dateTimeFormatter = new ConditionalInstantiator("java.time.format.DateTimeFormatter");
-        addValues(dateTimeFormatter.resolve(),
-                dateTimeFormatter.returnConstant("ISO_TIME"),
-                dateTimeFormatter.returnConstant("ISO_DATE"),
-                dateTimeFormatter.returnConstant("ISO_TIME"));
-        ConditionalInstantiator completableFuture = new ConditionalInstantiator("java.util.concurrent.CompletableFuture");
-        addValues(completableFuture.resolve(),
-                completableFuture.instantiate(classes(), objects()),
-                completableFuture.instantiate(classes(), objects()),
-                completableFuture.instantiate(classes(), objects()));
-        ConditionalInstantiator stampedLock = new ConditionalInstantiator("java.util.concurrent.locks.StampedLock");
-        addValues(stampedLock.resolve(),
-                stampedLock.instantiate(classes(), objects()),
-                stampedLock.instantiate(classes(), objects()),
-                stampedLock.instantiate(classes(), objects()));
+        addLazyFactory(optional, new ReflectiveGenericContainerFactory(optional, "of", Object.class));
+
+        addLazyConstants("java.time.LocalDateTime", "MIN", "MAX");
+        addLazyConstants("java.time.LocalDate", "MIN", "MAX");
+        addLazyConstants("java.time.LocalTime", "MIN", "MAX");
+        addLazyFactory("java.time.ZonedDateTime", new ReflectiveLazyValueFactory<Object>("java.time.ZonedDateTime") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.callFactory("parse", classes(CharSequence.class), objects("2017-12-13T10:15:30+01:00"));
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.callFactory("parse", classes(CharSequence.class), objects("2016-11-12T09:14:29-01:00"));
+            }
+        });
+        addLazyFactory("java.time.ZoneId", new ReflectiveLazyValueFactory<Object>("java.time.ZoneId") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.callFactory("of", classes(String.class), objects("+1"));
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.callFactory("of", classes(String.class), objects("-10"));
+            }
+        });
+        addLazyFactory("java.time.ZoneOffset", new ReflectiveLazyValueFactory<Object>("java.time.ZoneOffset") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.callFactory("ofHours", classes(int.class), objects(1));
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.callFactory("ofHours", classes(int.class), objects(-1));
+            }
+        });
+        addLazyConstants("java.time.format.DateTimeFormatter", "ISO_TIME", "ISO_DATE");
+        addLazyNewInstances("java.util.concurrent.CompletableFuture");
+        addLazyNewInstances("java.util.concurrent.locks.StampedLock");
     }
 
     private void addJavaFxClasses() {
@@ -369,11 +387,11 @@ public final class JavaApiPrefabValues {
         addJavaFxProperty("DoubleProperty", "SimpleDoubleProperty", double.class);
         addJavaFxProperty("FloatProperty", "SimpleFloatProperty", float.class);
         addJavaFxProperty("IntegerProperty", "SimpleIntegerProperty", int.class);
-        addJavaFxProperty("ListProperty", "SimpleListProperty", classForName(JAVAFX_COLLECTIONS_PACKAGE + "ObservableList"));
+        addJavaFxProperty("ListProperty", "SimpleListProperty", JAVAFX_COLLECTIONS_PACKAGE + "ObservableList");
         addJavaFxProperty("LongProperty", "SimpleLongProperty", long.class);
-        addJavaFxProperty("MapProperty", "SimpleMapProperty", classForName(JAVAFX_COLLECTIONS_PACKAGE + "ObservableMap"));
+        addJavaFxProperty("MapProperty", "SimpleMapProperty", JAVAFX_COLLECTIONS_PACKAGE + "ObservableMap");
         addJavaFxProperty("ObjectProperty", "SimpleObjectProperty", Object.class);
-        addJavaFxProperty("SetProperty", "SimpleSetProperty", classForName(JAVAFX_COLLECTIONS_PACKAGE + "ObservableSet"));
+        addJavaFxProperty("SetProperty", "SimpleSetProperty", JAVAFX_COLLECTIONS_PACKAGE + "ObservableSet");
         addJavaFxProperty("StringProperty", "SimpleStringProperty", String.class);
     }
 
@@ -394,7 +412,7 @@ public final class JavaApiPrefabValues {
         addNewGuavaCollection("ConcurrentHashMultiset", "ConcurrentHashMultiset");
         addCopiedGuavaCollection("EnumMultiset", Iterable.class, EnumSet.class, "create");
         addCopiedGuavaCollection("ImmutableMultiset", Iterable.class);
-        addCopiedGuavaCollection("ImmutableSortedMultiset", classForName(GUAVA_PACKAGE + "SortedMultiset"), "copyOfSorted");
+        addCopiedGuavaCollection("ImmutableSortedMultiset", GUAVA_PACKAGE + "SortedMultiset", "copyOfSorted");
     }
 
     private void addGoogleGuavaMultimapCollectionsClasses() {
@@ -407,11 +425,9 @@ public final class JavaApiPrefabValues {
         addNewGuavaMap("LinkedListMultimap", "LinkedListMultimap");
         addNewGuavaMap("LinkedHashMultimap", "LinkedHashMultimap");
         addNewGuavaMap("TreeMultimap", "TreeMultimap", OBJECT_COMPARATOR);
-        addCopiedGuavaCollection("ImmutableListMultimap", classForName(GUAVA_PACKAGE + "Multimap"));
-        addCopiedGuavaCollection("ImmutableSetMultimap", classForName(GUAVA_PACKAGE + "Multimap"));
-
-        ConditionalInstantiator ci = new ConditionalInstantiator(GUAVA_PACKAGE + "Multimap");
-        addCopiedGuavaCollection("ImmutableMultimap", "ImmutableListMultimap", ci.resolve(), ci.resolve(), "copyOf");
+        addCopiedGuavaCollection("ImmutableListMultimap", GUAVA_PACKAGE + "Multimap", "copyOf");
+        addCopiedGuavaCollection("ImmutableSetMultimap", GUAVA_PACKAGE + "Multimap", "copyOf");
+        addCopiedGuavaCollection("ImmutableMultimap", "ImmutableListMultimap", GUAVA_PACKAGE + "Multimap", GUAVA_PACKAGE + "Multimap", "copyOf");
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -420,27 +436,27 @@ public final class JavaApiPrefabValues {
         addNewGuavaMap("HashBiMap", "HashBiMap");
         addCopiedGuavaCollection("EnumHashBiMap", Map.class, EnumMap.class, "create");
         addCopiedGuavaCollection("ImmutableBiMap", Map.class);
-        addFactory(classForName(GUAVA_PACKAGE + "EnumBiMap"), new ReflectiveGuavaEnumBiMapFactory());
+        addLazyFactory(GUAVA_PACKAGE + "EnumBiMap", new ReflectiveGuavaEnumBiMapFactory());
     }
 
     private void addGoogleGuavaTableCollectionClasses() {
         addNewGuavaTable("Table", "HashBasedTable");
         addNewGuavaTable("HashBasedTable", "HashBasedTable");
         addNewGuavaTable("TreeBasedTable", "TreeBasedTable", OBJECT_COMPARATOR);
-        addCopiedGuavaCollection("ArrayTable", classForName(GUAVA_PACKAGE + "Table"), "create");
-        addCopiedGuavaCollection("ImmutableTable", classForName(GUAVA_PACKAGE + "Table"));
+        addCopiedGuavaCollection("ArrayTable", GUAVA_PACKAGE + "Table", "create");
+        addCopiedGuavaCollection("ImmutableTable", GUAVA_PACKAGE + "Table", "copyOf");
     }
 
     private void addGoogleGuavaRegularCollectionsClasses() {
         addNewGuavaCollection("EvictingQueue", "EvictingQueue", int.class, 10);
         addNewGuavaCollection("MinMaxPriorityQueue", "MinMaxPriorityQueue");
 
-        ConditionalInstantiator range = new ConditionalInstantiator(GUAVA_PACKAGE + "Range");
-        ConditionalInstantiator rangeSet = new ConditionalInstantiator(GUAVA_PACKAGE + "RangeSet");
-        ConditionalInstantiator immutableRangeSet = new ConditionalInstantiator(GUAVA_PACKAGE + "ImmutableRangeSet");
-        addCopiedGuavaCollection("ImmutableRangeSet", range.resolve(), "of");
-        addCopiedGuavaCollection("TreeRangeSet", rangeSet.resolve(), immutableRangeSet.resolve(), "create");
-        addCopiedGuavaCollection("RangeSet", "TreeRangeSet", rangeSet.resolve(), immutableRangeSet.resolve(), "create");
+        String range = GUAVA_PACKAGE + "Range";
+        String rangeSet = GUAVA_PACKAGE + "RangeSet";
+        String immutableRangeSet = GUAVA_PACKAGE + "ImmutableRangeSet";
+        addCopiedGuavaCollection("ImmutableRangeSet", range, "of");
+        addCopiedGuavaCollection("TreeRangeSet", "TreeRangeSet", rangeSet, immutableRangeSet, "create");
+        addCopiedGuavaCollection("RangeSet", "TreeRangeSet", rangeSet, immutableRangeSet, "create");
     }
 
     private void addGoogleGuavaImmutableClasses() {
@@ -454,40 +470,54 @@ public final class JavaApiPrefabValues {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void addNewGoogleGuavaClasses() {
-        String rangeFqcn = GUAVA_PACKAGE + "Range";
-        ConditionalInstantiator range = new ConditionalInstantiator(rangeFqcn, false);
-        addFactory(range.resolve(), new ReflectiveGenericContainerFactory(rangeFqcn, "atLeast", Comparable.class));
+        String range = GUAVA_PACKAGE + "Range";
+        addLazyFactory(range, new ReflectiveGenericContainerFactory(range, "atLeast", Comparable.class));
 
         String optional = "com.google.common.base.Optional";
-        addFactory(classForName(optional), new ReflectiveGenericContainerFactory(optional, "of", Object.class));
+        addLazyFactory(optional, new ReflectiveGenericContainerFactory(optional, "of", Object.class));
     }
 
     private void addJodaTimeClasses() {
-        ConditionalInstantiator chronology = new ConditionalInstantiator(JODA_PACKAGE + "Chronology");
-        addValues(chronology.resolve(),
-                chronology.callFactory(JODA_PACKAGE + "chrono.GregorianChronology", "getInstanceUTC", classes(), objects()),
-                chronology.callFactory(JODA_PACKAGE + "chrono.ISOChronology", "getInstanceUTC", classes(), objects()),
-                chronology.callFactory(JODA_PACKAGE + "chrono.GregorianChronology", "getInstanceUTC", classes(), objects()));
-        ConditionalInstantiator dateTimeZone = new ConditionalInstantiator(JODA_PACKAGE + "DateTimeZone");
-        addValues(dateTimeZone.resolve(),
-                dateTimeZone.callFactory("forOffsetHours", classes(int.class), objects(+1)),
-                dateTimeZone.callFactory("forOffsetHours", classes(int.class), objects(-10)),
-                dateTimeZone.callFactory("forOffsetHours", classes(int.class), objects(+1)));
-        ConditionalInstantiator periodType = new ConditionalInstantiator(JODA_PACKAGE + "PeriodType");
-        addValues(periodType.resolve(),
-                periodType.callFactory("days", classes(), objects()),
-                periodType.callFactory("hours", classes(), objects()),
-                periodType.callFactory("days", classes(), objects()));
-        ConditionalInstantiator yearMonth = new ConditionalInstantiator(JODA_PACKAGE + "YearMonth");
-        addValues(yearMonth.resolve(),
-                yearMonth.instantiate(classes(int.class, int.class), objects(2009, 6)),
-                yearMonth.instantiate(classes(int.class, int.class), objects(2014, 7)),
-                yearMonth.instantiate(classes(int.class, int.class), objects(2009, 6)));
-        ConditionalInstantiator monthDay = new ConditionalInstantiator(JODA_PACKAGE + "MonthDay");
-        addValues(monthDay.resolve(),
-                monthDay.instantiate(classes(int.class, int.class), objects(6, 1)),
-                monthDay.instantiate(classes(int.class, int.class), objects(6, 26)),
-                monthDay.instantiate(classes(int.class, int.class), objects(6, 1)));
+        addLazyFactory(JODA_PACKAGE + "Chronology", new ReflectiveLazyValueFactory<Object>(JODA_PACKAGE + "Chronology") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.callFactory(JODA_PACKAGE + "chrono.GregorianChronology", "getInstanceUTC", classes(), objects());
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.callFactory(JODA_PACKAGE + "chrono.ISOChronology", "getInstanceUTC", classes(), objects());
+            }
+        });
+        addLazyFactory(JODA_PACKAGE + "DateTimeZone", new ReflectiveLazyValueFactory<Object>(JODA_PACKAGE + "DateTimeZone") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.callFactory("forOffsetHours", classes(int.class), objects(+1));
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.callFactory("forOffsetHours", classes(int.class), objects(-10));
+            }
+        });
+        addLazyFactory(JODA_PACKAGE + "PeriodType", new ReflectiveLazyValueFactory<Object>(JODA_PACKAGE + "PeriodType") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.callFactory("days", classes(), objects());
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.callFactory("hours", classes(), objects());
+            }
+        });
+        addLazyFactory(JODA_PACKAGE + "YearMonth", new ReflectiveLazyValueFactory<Object>(JODA_PACKAGE + "YearMonth") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.instantiate(classes(int.class, int.class), objects(2009, 6));
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.instantiate(classes(int.class, int.class), objects(2014, 7));
+            }
+        });
+        addLazyFactory(JODA_PACKAGE + "MonthDay", new ReflectiveLazyValueFactory<Object>(JODA_PACKAGE + "MonthDay") {
+            @Override protected Object createRed(ConditionalInstantiator ci) {
+                return ci.instantiate(classes(int.class, int.class), objects(6, 1));
+            }
+            @Override protected Object createBlack(ConditionalInstantiator ci) {
+                return ci.instantiate(classes(int.class, int.class), objects(6, 26));
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -499,84 +529,95 @@ public final class JavaApiPrefabValues {
         prefabValues.addFactory(type, factory);
     }
 
+    private <T> void addLazyFactory(String typeName, PrefabValueFactory<T> factory) {
+        prefabValues.addLazyFactory(typeName, factory);
+    }
+
+    private void addLazyConstants(String typeName, String redConstant, String blackConstant) {
+        addLazyFactory(typeName, new ReflectiveLazyConstantFactory<>(typeName, redConstant, blackConstant));
+    }
+
+    private void addLazyNewInstances(String typeName) {
+        addLazyFactory(typeName, new ReflectiveLazyValueFactory<Object>(typeName) {
+            @Override protected Object createRed(ConditionalInstantiator ci) { return ci.instantiate(classes(), objects()); }
+            @Override protected Object createBlack(ConditionalInstantiator ci) { return ci.instantiate(classes(), objects()); }
+        });
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void addJavaFxCollection(String name, Class<?> copyFrom, String factoryMethod) {
         String className = JAVAFX_COLLECTIONS_PACKAGE + name;
-        addFactory(classForName(className),
+        addLazyFactory(className,
                 new ReflectiveCollectionCopyFactory(className, copyFrom, JAVAFX_COLLECTIONS_PACKAGE + "FXCollections", factoryMethod));
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void addJavaFxProperty(String declaredType, String actualType, Class<?> propertyType) {
-        addFactory(classForName(JAVAFX_PROPERTY_PACKAGE + declaredType),
-                new ReflectiveJavaFxPropertyFactory(JAVAFX_PROPERTY_PACKAGE + actualType, propertyType));
+        addLazyFactory(JAVAFX_PROPERTY_PACKAGE + declaredType,
+                new ReflectiveJavaFxPropertyFactory<>(JAVAFX_PROPERTY_PACKAGE + actualType, propertyType));
+    }
+
+    private void addJavaFxProperty(String declaredType, String actualType, String propertyType) {
+        addLazyFactory(JAVAFX_PROPERTY_PACKAGE + declaredType,
+                new ReflectiveJavaFxPropertyFactory<>(JAVAFX_PROPERTY_PACKAGE + actualType, propertyType));
     }
 
     private <T> void addNewGuavaCollection(String declaredType, String actualType) {
-        @SuppressWarnings("unchecked")
-        Class<T> type = (Class<T>)classForName(GUAVA_PACKAGE + declaredType);
         ReflectiveCollectionFactory<T> factory =
                 ReflectiveCollectionFactory.callFactoryMethod(GUAVA_PACKAGE + actualType, "create");
-        addFactory(type, factory);
+        addLazyFactory(GUAVA_PACKAGE + declaredType, factory);
     }
 
     private <T, U> void addNewGuavaCollection(String declaredType, String actualType, Class<U> parameterType, U parameterValue) {
-        @SuppressWarnings("unchecked")
-        Class<T> type = (Class<T>)classForName(GUAVA_PACKAGE + declaredType);
         ReflectiveCollectionFactory<T> factory =
                 ReflectiveCollectionFactory.callFactoryMethodWithParameter(GUAVA_PACKAGE + actualType, "create", parameterType, parameterValue);
-        addFactory(type, factory);
+        addLazyFactory(GUAVA_PACKAGE + declaredType, factory);
     }
 
     private <T> void addNewGuavaMap(String declaredType, String actualType) {
-        @SuppressWarnings("unchecked")
-        Class<T> type = (Class<T>)classForName(GUAVA_PACKAGE + declaredType);
         ReflectiveMapFactory<T> factory = ReflectiveMapFactory.callFactoryMethod(GUAVA_PACKAGE + actualType, "create");
-        addFactory(type, factory);
+        addLazyFactory(GUAVA_PACKAGE + declaredType, factory);
     }
 
     private <T> void addNewGuavaMap(String declaredType, String actualType, Comparator<Object> comparator) {
-        @SuppressWarnings("unchecked")
-        Class<T> type = (Class<T>)classForName(GUAVA_PACKAGE + declaredType);
         ReflectiveMapFactory<T> factory =
                 ReflectiveMapFactory.callFactoryMethodWithComparator(GUAVA_PACKAGE + actualType, "create", comparator);
-        addFactory(type, factory);
+        addLazyFactory(GUAVA_PACKAGE + declaredType, factory);
     }
 
     private <T> void addNewGuavaTable(String declaredType, String actualType, Comparator<Object> comparator) {
-        @SuppressWarnings("unchecked")
-        Class<T> type = (Class<T>)classForName(GUAVA_PACKAGE + declaredType);
         ReflectiveGuavaTableFactory<T> factory =
                 ReflectiveGuavaTableFactory.callFactoryMethodWithComparator(GUAVA_PACKAGE + actualType, "create", comparator);
-        addFactory(type, factory);
+        addLazyFactory(GUAVA_PACKAGE + declaredType, factory);
     }
 
     private <T> void addNewGuavaTable(String declaredType, String actualType) {
-        @SuppressWarnings("unchecked")
-        Class<T> type = (Class<T>)classForName(GUAVA_PACKAGE + declaredType);
         ReflectiveGuavaTableFactory<T> factory =
                 ReflectiveGuavaTableFactory.callFactoryMethod(GUAVA_PACKAGE + actualType, "create");
-        addFactory(type, factory);
+        addLazyFactory(GUAVA_PACKAGE + declaredType, factory);
     }
 
     private void addCopiedGuavaCollection(String name, Class<?> copyFrom) {
-        addCopiedGuavaCollection(name, copyFrom, "copyOf");
+        addCopiedGuavaCollection(name, copyFrom.getName(), "copyOf");
     }
 
-    private void addCopiedGuavaCollection(String name, Class<?> copyFrom, String copyMethodName) {
-        addCopiedGuavaCollection(name, copyFrom, copyFrom, copyMethodName);
+    private void addCopiedGuavaCollection(String name, String copyFrom, String copyMethodName) {
+        addCopiedGuavaCollection(name, name, copyFrom, copyFrom, copyMethodName);
     }
 
     private void addCopiedGuavaCollection(String name, Class<?> declaredCopyFrom, Class<?> actualCopyFrom, String copyMethodName) {
         addCopiedGuavaCollection(name, name, declaredCopyFrom, actualCopyFrom, copyMethodName);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void addCopiedGuavaCollection(String declaredName, String actualName,
             Class<?> declaredCopyFrom, Class<?> actualCopyFrom, String copyMethodName) {
+        addCopiedGuavaCollection(declaredName, actualName, declaredCopyFrom.getName(), actualCopyFrom.getName(), copyMethodName);
+    }
+
+    private void addCopiedGuavaCollection(String declaredName, String actualName,
+            String declaredCopyFrom, String actualCopyFrom, String copyMethodName) {
 
         String className = GUAVA_PACKAGE + actualName;
-        addFactory(classForName(GUAVA_PACKAGE + declaredName),
-                new ReflectiveCollectionCopyFactory(className, declaredCopyFrom, actualCopyFrom, className, copyMethodName));
+        addLazyFactory(GUAVA_PACKAGE + declaredName,
+                new ReflectiveCollectionCopyFactory<>(className, declaredCopyFrom, actualCopyFrom, className, copyMethodName));
     }
 }
@@ -5,10 +5,12 @@ import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.FallbackFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.SimpleFactory;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent.Span;
+import nl.jqno.equalsverifier.internal.util.VerificationCounters;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 /**
@@ -22,8 +24,51 @@ public class PrefabValues {
     private static final Map<Class<?>, Class<?>> PRIMITIVE_OBJECT_MAPPER = createPrimitiveObjectMapper();
 
     private final Cache cache = new Cache();
-    private final FactoryCache factoryCache = new FactoryCache();
+    private final FactoryCache factoryCache;
     private final PrefabValueFactory<?> fallbackFactory = new FallbackFactory<>();
+    private SharedTupleCache sharedCache = null;
+
+    /**
+     * Constructor for an empty {@link PrefabValues}.
+     */
+    public PrefabValues() {
+        this(new FactoryCache());
+    }
+
+    private PrefabValues(FactoryCache factoryCache) {
+        this.factoryCache = factoryCache;
+    }
+
+    /**
+     * Creates a new {@link PrefabValues} that has all the factories of this
+     * one, without copying them.
+     *
+     * Factories that are added to the new instance take precedence over the
+     * factories of this instance, but are not visible in it. Prefabricated
+     * values are not shared between the instances, unless both use the same
+     * {@link SharedTupleCache}. Each instance can therefore be used by a
+     * different thread.
+     *
+     * This instance should not be modified anymore after calling this method,
+     * because the change will also be visible in the new instance.
+     *
+     * @return A new {@link PrefabValues}, layered on top of this one.
+     */
+    public PrefabValues newLayer() {
+        PrefabValues result = new PrefabValues(new FactoryCache(factoryCache));
+        result.sharedCache = sharedCache;
+        return result;
+    }
+
+    /**
+     * Makes this instance look up values in the given {@link SharedTupleCache}
+     * before creating them, and store the values it creates there.
+     *
+     * @param sharedTupleCache The cache to use; null to stop using one.
+     */
+    public void useSharedCache(SharedTupleCache sharedTupleCache) {
+        this.sharedCache = sharedTupleCache;
+    }
 
     /**
      * Associates the factory that can create instances of the given type,
@@ -107,7 +152,7 @@ public class PrefabValues {
      *            parameters.
      */
     public <T> Tuple<T> giveTuple(TypeTag tag) {
-        realizeCacheFor(tag, emptyStack());
+        realizeCacheFor(tag, TypeStack.empty());
         return cache.getTuple(tag);
     }
 
@@ -148,10 +193,6 @@ public class PrefabValues {
         return Arrays.deepEquals(new Object[] { x }, new Object[] { y });
     }
 
-    private LinkedHashSet<TypeTag> emptyStack() {
-        return new LinkedHashSet<>();
-    }
-
     /**
      * Makes sure that values for the specified type are present in the cache,
      * but doesn't return them.
@@ -160,21 +201,43 @@ public class PrefabValues {
      *            parameters.
      * @param typeStack Keeps track of recursion in the type.
      */
-    public <T> void realizeCacheFor(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
-        if (!cache.contains(tag)) {
-            Tuple<T> tuple = createTuple(tag, typeStack);
+    public <T> void realizeCacheFor(TypeTag tag, TypeStack typeStack) {
+        if (cache.contains(tag)) {
+            VerificationCounters.countTuple(true);
+            return;
+        }
+        Span span = FlightRecorderEvent.PREFAB_VALUE_REALIZATION.begin();
+        try {
+            Tuple<T> tuple = sharedCache == null ? this.<T>createTuple(tag, typeStack) : this.<T>createOrShareTuple(tag, typeStack);
             addToCache(tag, tuple);
         }
+        finally {
+            if (span.isActive()) {
+                span.end(tag.toString(), typeStack.size());
+            }
+        }
+    }
+
+    private <T> Tuple<T> createOrShareTuple(TypeTag tag, TypeStack typeStack) {
+        Object fingerprint = factoryCache.fingerprint();
+        Tuple<T> shared = sharedCache.get(fingerprint, tag);
+        if (shared != null) {
+            VerificationCounters.countTuple(true);
+            return shared;
+        }
+        Tuple<T> tuple = createTuple(tag, typeStack);
+        return sharedCache.putIfAbsent(fingerprint, tag, tuple);
     }
 
-    private <T> Tuple<T> createTuple(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
+    private <T> Tuple<T> createTuple(TypeTag tag, TypeStack typeStack) {
+        VerificationCounters.countTuple(false);
         if (typeStack.contains(tag)) {
             throw new RecursionException(typeStack);
         }
 
         Class<T> type = tag.getType();
-        if (factoryCache.contains(type)) {
-            PrefabValueFactory<T> factory = factoryCache.get(type);
+        PrefabValueFactory<T> factory = factoryCache.get(type);
+        if (factory != null) {
             return factory.createValues(tag, this, typeStack);
         }
 
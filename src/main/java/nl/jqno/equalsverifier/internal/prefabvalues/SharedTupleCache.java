@@ -0,0 +1,112 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide, thread-safe cache of prefabricated values, that can be
+ * shared by many {@link PrefabValues} instances.
+ *
+ * Values are stored per {@link TypeTag} and per fingerprint of the factories
+ * that were used to create them, so that {@link PrefabValues} instances with
+ * different prefab overrides never see each other's values.
+ */
+public final class SharedTupleCache {
+    private static final SharedTupleCache INSTANCE = new SharedTupleCache();
+
+    private final ConcurrentMap<Key, Tuple<?>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private SharedTupleCache() {}
+
+    /**
+     * Returns the process-wide instance.
+     */
+    public static SharedTupleCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the number of lookups that found a value.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that didn't find a value.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of tuples in the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all tuples from the cache and resets the counters.
+     */
+    public void clear() {
+        cache.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Returns the tuple for the given type, created with factories that have
+     * the given fingerprint, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Tuple<T> get(Object fingerprint, TypeTag tag) {
+        Tuple<T> result = (Tuple<T>)cache.get(new Key(fingerprint, tag));
+        if (result == null) {
+            misses.incrementAndGet();
+        }
+        else {
+            hits.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * Adds the tuple for the given type, created with factories that have the
+     * given fingerprint, unless another thread got there first.
+     *
+     * @return The tuple that ended up in the cache.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Tuple<T> putIfAbsent(Object fingerprint, TypeTag tag, Tuple<T> tuple) {
+        Tuple<T> existing = (Tuple<T>)cache.putIfAbsent(new Key(fingerprint, tag), tuple);
+        return existing == null ? tuple : existing;
+    }
+
+    private static final class Key {
+        private final Object fingerprint;
+        private final TypeTag tag;
+
+        private Key(Object fingerprint, TypeTag tag) {
+            this.fingerprint = fingerprint;
+            this.tag = tag;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            return tag.equals(other.tag) && fingerprint.equals(other.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return (59 * tag.hashCode()) + fingerprint.hashCode();
+        }
+    }
+}
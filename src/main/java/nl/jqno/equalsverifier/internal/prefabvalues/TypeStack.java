@@ -0,0 +1,142 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * The types that are being realized, from the outermost to the innermost one,
+ * to detect recursion in a data structure.
+ *
+ * A {@code TypeStack} is immutable: {@link #push(TypeTag)} returns a new
+ * stack that shares all its existing frames with the stack it was pushed
+ * onto, so going one level deeper costs a single allocation, regardless of
+ * how deep the stack already is.
+ *
+ * Each stack also keeps a 64-bit filter of the hash codes of all its
+ * elements, so that {@link #contains(TypeTag)} usually doesn't have to
+ * compare the elements one by one.
+ */
+public final class TypeStack implements Iterable<TypeTag> {
+    private static final TypeStack EMPTY = new TypeStack(null, null, 0L, 0);
+    private static final long[] BITS = createBits();
+
+    private final TypeTag top;
+    private final TypeStack rest;
+    private final long filter;
+    private final int size;
+
+    private TypeStack(TypeTag top, TypeStack rest, long filter, int size) {
+        this.top = top;
+        this.rest = rest;
+        this.filter = filter;
+        this.size = size;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @return A stack that contains no types.
+     */
+    public static TypeStack empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param tags The types that the stack should contain, from the outermost
+     *          to the innermost one.
+     * @return A stack that contains the given types.
+     */
+    public static TypeStack of(TypeTag... tags) {
+        TypeStack result = EMPTY;
+        for (TypeTag tag : tags) {
+            result = result.push(tag);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a stack that contains the types in this stack, with the given
+     * type on top. This stack remains unchanged.
+     *
+     * @param tag The type to add.
+     * @return A new stack, or this stack if it already contains the type.
+     */
+    public TypeStack push(TypeTag tag) {
+        if (contains(tag)) {
+            return this;
+        }
+        return new TypeStack(tag, this, filter | bitFor(tag), size + 1);
+    }
+
+    /**
+     * Returns whether the stack contains the given type.
+     *
+     * @param tag The type to look for.
+     * @return Whether the stack contains the type.
+     */
+    public boolean contains(TypeTag tag) {
+        if ((filter & bitFor(tag)) == 0) {
+            return false;
+        }
+        for (TypeStack frame = this; frame.top != null; frame = frame.rest) {
+            if (frame.top.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Getter.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Iterates over the types in the stack, from the outermost to the
+     * innermost one; in other words, in the order in which they were pushed.
+     *
+     * @return An iterator over the types in the stack.
+     */
+    @Override
+    public Iterator<TypeTag> iterator() {
+        TypeTag[] result = new TypeTag[size];
+        int i = size;
+        for (TypeStack frame = this; frame.top != null; frame = frame.rest) {
+            i--;
+            result[i] = frame.top;
+        }
+        return Arrays.asList(result).iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        String separator = "";
+        for (TypeTag tag : this) {
+            result.append(separator).append(tag);
+            separator = ", ";
+        }
+        return result.append("]").toString();
+    }
+
+    private static long bitFor(TypeTag tag) {
+        return BITS[tag.hashCode() & 63];
+    }
+
+    private static long[] createBits() {
+        long[] result = new long[64];
+        long bit = 1L;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bit;
+            bit *= 2;
+        }
+        return result;
+    }
+}
@@ -4,6 +4,8 @@ import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierBugException;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
@@ -18,8 +20,25 @@ public final class TypeTag {
      */
     public static final TypeTag NULL = new TypeTag(NullType.class);
 
+    /**
+     * The TypeTags of fields that have been resolved before, per enclosing
+     * class, so that the same field in the same enclosing type always yields
+     * the same instance. Entries are only stored if all the classes they
+     * refer to come from the enclosing class's own class loader or from the
+     * bootstrap class loader, so that a class never keeps classes from
+     * another class loader alive.
+     */
+    private static final ClassValue<ConcurrentMap<FieldKey, TypeTag>> RESOLVED_FIELDS =
+            new ClassValue<ConcurrentMap<FieldKey, TypeTag>>() {
+                @Override
+                protected ConcurrentMap<FieldKey, TypeTag> computeValue(Class<?> enclosingClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     private final Class<?> type;
     private final List<TypeTag> genericTypes;
+    private final int cachedHashCode;
 
     /**
      * Constructor.
@@ -37,6 +56,7 @@ public final class TypeTag {
         }
         this.type = type;
         this.genericTypes = genericTypes;
+        this.cachedHashCode = computeHashCode();
     }
 
     /**
@@ -49,7 +69,41 @@ public final class TypeTag {
      * @return The TypeTag for the given field.
      */
     public static TypeTag of(Field field, TypeTag enclosingType) {
-        return resolve(field.getGenericType(), enclosingType, false);
+        boolean isNull = enclosingType == NULL;
+        Class<?> owner = isNull ? field.getDeclaringClass() : enclosingType.getType();
+        ClassLoader loader = owner.getClassLoader();
+        if (!isFrom(field.getDeclaringClass(), loader) || (!isNull && !enclosingType.isFrom(loader))) {
+            return resolve(field.getGenericType(), enclosingType, false);
+        }
+
+        ConcurrentMap<FieldKey, TypeTag> resolvedFields = RESOLVED_FIELDS.get(owner);
+        FieldKey key = new FieldKey(field, isNull ? null : enclosingType);
+        TypeTag result = resolvedFields.get(key);
+        if (result == null) {
+            result = resolve(field.getGenericType(), enclosingType, false);
+            TypeTag previous = resolvedFields.putIfAbsent(key, result);
+            if (previous != null) {
+                result = previous;
+            }
+        }
+        return result;
+    }
+
+    private boolean isFrom(ClassLoader loader) {
+        if (!isFrom(type, loader)) {
+            return false;
+        }
+        for (TypeTag tag : genericTypes) {
+            if (!tag.isFrom(loader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFrom(Class<?> c, ClassLoader loader) {
+        ClassLoader classLoader = c.getClassLoader();
+        return classLoader == null || classLoader == loader;
     }
 
     private static TypeTag resolve(Type type, TypeTag enclosingType, boolean shortCircuitRecursiveTypeBound) {
@@ -105,10 +159,9 @@ public final class TypeTag {
 
     private static TypeTag processTypeVariable(TypeVariable<?> type, TypeTag enclosingType,
                 boolean shortCircuitRecursiveTypeBound) {
-        Map<String, TypeTag> typeVariableLookup = buildLookup(enclosingType);
-        String typeVariableName = type.getName();
-        if (typeVariableLookup.containsKey(typeVariableName)) {
-            return typeVariableLookup.get(typeVariableName);
+        TypeTag lookedUp = lookup(type.getName(), enclosingType);
+        if (lookedUp != null) {
+            return lookedUp;
         }
         for (Type b : type.getBounds()) {
             if (!shortCircuitRecursiveTypeBound) {
@@ -118,19 +171,18 @@ public final class TypeTag {
         return new TypeTag(Object.class);
     }
 
-    private static Map<String, TypeTag> buildLookup(TypeTag enclosingType) {
-        TypeVariable<?>[] typeParameters = enclosingType.getType().getTypeParameters();
-        Map<String, TypeTag> lookup = new HashMap<>();
-        if (enclosingType.getGenericTypes().size() == 0) {
-            return lookup;
+    private static TypeTag lookup(String typeVariableName, TypeTag enclosingType) {
+        if (enclosingType.genericTypes.size() == 0) {
+            return null;
         }
 
+        TypeVariable<?>[] typeParameters = enclosingType.type.getTypeParameters();
         for (int i = 0; i < typeParameters.length; i++) {
-            String name = typeParameters[i].getName();
-            TypeTag tag = enclosingType.getGenericTypes().get(i);
-            lookup.put(name, tag);
+            if (typeParameters[i].getName().equals(typeVariableName)) {
+                return enclosingType.genericTypes.get(i);
+            }
         }
-        return lookup;
+        return null;
     }
 
     /**
@@ -153,11 +205,14 @@ public final class TypeTag {
      */
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (!(obj instanceof TypeTag)) {
             return false;
         }
         TypeTag other = (TypeTag)obj;
-        return type.equals(other.type) && genericTypes.equals(other.genericTypes);
+        return cachedHashCode == other.cachedHashCode && type.equals(other.type) && genericTypes.equals(other.genericTypes);
     }
 
     /**
@@ -165,6 +220,10 @@ public final class TypeTag {
      */
     @Override
     public int hashCode() {
+        return cachedHashCode;
+    }
+
+    private int computeHashCode() {
         int result = 37;
         result = (59 * result) + type.hashCode();
         result = (59 * result) + genericTypes.hashCode();
@@ -193,4 +252,30 @@ public final class TypeTag {
     }
 
     private static final class NullType {}
+
+    // The enclosing type is null for TypeTag.NULL, which would otherwise keep
+    // EqualsVerifier's own class loader alive.
+    private static final class FieldKey {
+        private final Field field;
+        private final TypeTag enclosingType;
+
+        private FieldKey(Field field, TypeTag enclosingType) {
+            this.field = field;
+            this.enclosingType = enclosingType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FieldKey)) {
+                return false;
+            }
+            FieldKey other = (FieldKey)obj;
+            return field.equals(other.field) && Objects.equals(enclosingType, other.enclosingType);
+        }
+
+        @Override
+        public int hashCode() {
+            return (59 * field.hashCode()) + Objects.hashCode(enclosingType);
+        }
+    }
 }
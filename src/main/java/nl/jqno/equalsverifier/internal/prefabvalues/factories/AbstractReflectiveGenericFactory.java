@@ -1,14 +1,13 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.MethodHandleCache;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -18,13 +17,6 @@ import java.util.List;
 public abstract class AbstractReflectiveGenericFactory<T> implements PrefabValueFactory<T> {
     public static final TypeTag OBJECT_TYPE_TAG = new TypeTag(Object.class);
 
-    protected LinkedHashSet<TypeTag> cloneWith(LinkedHashSet<TypeTag> typeStack, TypeTag tag) {
-        @SuppressWarnings("unchecked")
-        LinkedHashSet<TypeTag> clone = (LinkedHashSet<TypeTag>)typeStack.clone();
-        clone.add(tag);
-        return clone;
-    }
-
     protected TypeTag copyGenericTypesInto(Class<?> type, TypeTag source) {
         List<TypeTag> genericTypes = new ArrayList<>();
         for (TypeTag tag : source.getGenericTypes()) {
@@ -34,12 +26,12 @@ public abstract class AbstractReflectiveGenericFactory<T> implements PrefabValue
     }
 
     protected TypeTag determineAndCacheActualTypeTag(int n, TypeTag tag, PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack) {
+            TypeStack typeStack) {
         return determineAndCacheActualTypeTag(n, tag, prefabValues, typeStack, null);
     }
 
     protected TypeTag determineAndCacheActualTypeTag(int n, TypeTag tag, PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack, Class<?> bottomType) {
+            TypeStack typeStack, Class<?> bottomType) {
         TypeTag result = determineActualTypeTagFor(n, tag);
         if (bottomType != null && result.getType().equals(Object.class)) {
             result = new TypeTag(bottomType);
@@ -57,15 +49,19 @@ public abstract class AbstractReflectiveGenericFactory<T> implements PrefabValue
         return genericTypes.get(n);
     }
 
-    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
     protected void invoke(Class<?> type, Object receiver, String methodName, Class<?>[] classes, Object[] values) {
+        MethodHandle method;
+        try {
+            method = MethodHandleCache.method(type, methodName, classes);
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
         try {
-            Method method = type.getMethod(methodName, classes);
-            // Not necessary in the common case, but required for https://bugs.java.com/view_bug.do?bug_id=6924232.
-            method.setAccessible(true);
-            method.invoke(receiver, values);
+            MethodHandleCache.invoke(method, receiver, values);
         }
-        catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+        catch (Throwable e) {
+            // Like reflection's InvocationTargetException, this includes Errors thrown by the method.
             throw new ReflectionException(e);
         }
     }
@@ -2,10 +2,10 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
 
 /**
  * Implementation of {@link PrefabValueFactory} that specializes in creating
@@ -16,9 +16,9 @@ public abstract class CollectionFactory<T extends Collection> extends AbstractRe
     public abstract T createEmpty();
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
 
         T red = createEmpty();
         Object redElem = prefabValues.giveRed(entryTag);
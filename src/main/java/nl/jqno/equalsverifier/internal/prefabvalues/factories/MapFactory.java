@@ -2,9 +2,9 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 /**
@@ -16,10 +16,10 @@ public abstract class MapFactory<T extends Map> extends AbstractReflectiveGeneri
     public abstract T createEmpty();
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
-        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
+        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
 
         // Use red for key and black for value in the Red map to avoid having identical keys and values.
         // But don't do it in the Black map, or they may cancel each other out again.
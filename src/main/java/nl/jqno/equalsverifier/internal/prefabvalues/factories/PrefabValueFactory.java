@@ -2,10 +2,9 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
-import java.util.LinkedHashSet;
-
 /**
  * Creates instances of generic types for use as prefab value.
  *
@@ -22,5 +21,5 @@ public interface PrefabValueFactory<T> {
      *          to be created. Used for recursion detection.
      * @return A "red" instance of {@code T}.
      */
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack);
 }
@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
-import java.util.LinkedHashSet;
-
+import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
@@ -16,8 +16,8 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
  */
 public final class ReflectiveCollectionCopyFactory<T> extends AbstractReflectiveGenericFactory<T> {
     private final String typeName;
-    private final Class<?> declaredParameterRawType;
-    private final Class<?> actualParameterRawType;
+    private final String declaredParameterRawType;
+    private final String actualParameterRawType;
     private final String factoryType;
     private final String factoryMethod;
 
@@ -27,6 +27,15 @@ public final class ReflectiveCollectionCopyFactory<T> extends AbstractReflective
 
     public ReflectiveCollectionCopyFactory(String typeName, Class<?> declaredParameterRawType, Class<?> actualParameterRawType,
             String factoryType, String factoryMethod) {
+        this(typeName, declaredParameterRawType.getName(), actualParameterRawType.getName(), factoryType, factoryMethod);
+    }
+
+    /**
+     * Constructor for parameter types that may not be present on the
+     * classpath. They are resolved when values are created.
+     */
+    public ReflectiveCollectionCopyFactory(String typeName, String declaredParameterRawType, String actualParameterRawType,
+            String factoryType, String factoryMethod) {
         this.typeName = typeName;
         this.declaredParameterRawType = declaredParameterRawType;
         this.actualParameterRawType = actualParameterRawType;
@@ -35,18 +44,19 @@ public final class ReflectiveCollectionCopyFactory<T> extends AbstractReflective
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag singleParameterTag = copyGenericTypesInto(actualParameterRawType, tag);
-        prefabValues.realizeCacheFor(singleParameterTag, clone);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        Class<?> declaredParameterType = classForName(declaredParameterRawType);
+        TypeTag singleParameterTag = copyGenericTypesInto(classForName(actualParameterRawType), tag);
+        prefabValues.realizeCacheFor(singleParameterTag, stack);
 
         ConditionalInstantiator ci = new ConditionalInstantiator(typeName);
         Object red = ci.callFactory(factoryType, factoryMethod,
-                classes(declaredParameterRawType), objects(prefabValues.giveRed(singleParameterTag)));
+                classes(declaredParameterType), objects(prefabValues.giveRed(singleParameterTag)));
         Object black = ci.callFactory(factoryType, factoryMethod,
-                classes(declaredParameterRawType), objects(prefabValues.giveBlack(singleParameterTag)));
+                classes(declaredParameterType), objects(prefabValues.giveBlack(singleParameterTag)));
         Object redCopy = ci.callFactory(factoryType, factoryMethod,
-                classes(declaredParameterRawType), objects(prefabValues.giveRed(singleParameterTag)));
+                classes(declaredParameterType), objects(prefabValues.giveRed(singleParameterTag)));
 
         return Tuple.of(red, black, redCopy);
     }
@@ -2,11 +2,10 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
-import java.util.LinkedHashSet;
-
 import static nl.jqno.equalsverifier.internal.reflection.Util.*;
 
 /**
@@ -48,9 +47,9 @@ public abstract class ReflectiveCollectionFactory<T> extends AbstractReflectiveG
     protected abstract Object createEmpty();
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
 
         Object red = createWith(prefabValues.giveRed(entryTag));
         Object black = createWith(prefabValues.giveBlack(entryTag));
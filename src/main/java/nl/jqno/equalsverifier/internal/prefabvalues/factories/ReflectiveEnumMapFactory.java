@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
@@ -19,10 +19,10 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 @SuppressWarnings("rawtypes")
 public class ReflectiveEnumMapFactory extends AbstractReflectiveGenericFactory<EnumMap> {
     @Override
-    public Tuple<EnumMap> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone, Enum.class);
-        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
+    public Tuple<EnumMap> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack, Enum.class);
+        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
 
         EnumMap red = createWith(prefabValues.giveRed(keyTag), prefabValues.giveBlack(valueTag));
         EnumMap black = createWith(prefabValues.giveBlack(keyTag), prefabValues.giveBlack(valueTag));
@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
 import java.util.EnumSet;
-import java.util.LinkedHashSet;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
@@ -18,11 +18,11 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 @SuppressWarnings("rawtypes")
 public class ReflectiveEnumSetFactory extends AbstractReflectiveGenericFactory<EnumSet> {
     @Override
-    public Tuple<EnumSet> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    public Tuple<EnumSet> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         ConditionalInstantiator ci = new ConditionalInstantiator(EnumSet.class.getName());
 
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone, Enum.class);
+        TypeStack stack = typeStack.push(tag);
+        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack, Enum.class);
 
         EnumSet red = (EnumSet)ci.callFactory("of", classes(Enum.class), objects(prefabValues.giveRed(entryTag)));
         EnumSet black = (EnumSet)ci.callFactory("of", classes(Enum.class), objects(prefabValues.giveBlack(entryTag)));
@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
@@ -21,10 +21,10 @@ public class ReflectiveGuavaEnumBiMapFactory<T> extends AbstractReflectiveGeneri
     private static final String TYPE_NAME = "com.google.common.collect.EnumBiMap";
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone, Enum.class);
-        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone, Enum.class);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack, Enum.class);
+        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack, Enum.class);
 
         Object red = createWith(prefabValues.giveRed(keyTag), prefabValues.giveBlack(valueTag));
         Object black = createWith(prefabValues.giveBlack(keyTag), prefabValues.giveBlack(valueTag));
@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
 import java.util.Comparator;
-import java.util.LinkedHashSet;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.*;
 
@@ -46,11 +46,11 @@ public abstract class ReflectiveGuavaTableFactory<T> extends AbstractReflectiveG
     protected abstract Object createEmpty();
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
-        TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
-        TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, clone);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
+        TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
+        TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, stack);
 
         Object red = createWith(prefabValues.giveRed(columnTag), prefabValues.giveRed(rowTag), prefabValues.giveBlack(valueTag));
         Object black = createWith(prefabValues.giveBlack(columnTag), prefabValues.giveBlack(rowTag), prefabValues.giveBlack(valueTag));
@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
-import java.util.LinkedHashSet;
-
+import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
@@ -17,19 +17,34 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 public final class ReflectiveJavaFxPropertyFactory<T> extends AbstractReflectiveGenericFactory<T> {
     private final String typeName;
     private final Class<?> parameterRawType;
+    private final String parameterRawTypeName;
 
     public ReflectiveJavaFxPropertyFactory(String typeName, Class<?> parameterRawType) {
+        this(typeName, parameterRawType, parameterRawType.getName());
+    }
+
+    /**
+     * Constructor for a parameter type that may not be present on the
+     * classpath. It is resolved when values are created.
+     */
+    public ReflectiveJavaFxPropertyFactory(String typeName, String parameterRawTypeName) {
+        this(typeName, null, parameterRawTypeName);
+    }
+
+    private ReflectiveJavaFxPropertyFactory(String typeName, Class<?> parameterRawType, String parameterRawTypeName) {
         this.typeName = typeName;
         this.parameterRawType = parameterRawType;
+        this.parameterRawTypeName = parameterRawTypeName;
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         ConditionalInstantiator ci = new ConditionalInstantiator(typeName);
-        TypeTag singleParameterTag = copyGenericTypesInto(parameterRawType, tag);
-        Object red = ci.instantiate(classes(parameterRawType), objects(prefabValues.giveRed(singleParameterTag)));
-        Object black = ci.instantiate(classes(parameterRawType), objects(prefabValues.giveBlack(singleParameterTag)));
-        Object redCopy = ci.instantiate(classes(parameterRawType), objects(prefabValues.giveRed(singleParameterTag)));
+        Class<?> parameterType = parameterRawType != null ? parameterRawType : classForName(parameterRawTypeName);
+        TypeTag singleParameterTag = copyGenericTypesInto(parameterType, tag);
+        Object red = ci.instantiate(classes(parameterType), objects(prefabValues.giveRed(singleParameterTag)));
+        Object black = ci.instantiate(classes(parameterType), objects(prefabValues.giveBlack(singleParameterTag)));
+        Object redCopy = ci.instantiate(classes(parameterType), objects(prefabValues.giveRed(singleParameterTag)));
 
         return Tuple.of(red, black, redCopy);
     }
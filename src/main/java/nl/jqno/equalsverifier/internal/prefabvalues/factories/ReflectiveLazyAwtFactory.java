@@ -2,11 +2,10 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
-import java.util.LinkedHashSet;
-
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
@@ -18,7 +17,7 @@ public class ReflectiveLazyAwtFactory<T> extends AbstractReflectiveGenericFactor
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         String colorSpace = "java.awt.color.ColorSpace";
         ConditionalInstantiator ciColorSpace = new ConditionalInstantiator(colorSpace);
         Object redConstant = ciColorSpace.returnConstant("CS_sRGB");
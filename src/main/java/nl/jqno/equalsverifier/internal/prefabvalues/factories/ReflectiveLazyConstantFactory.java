@@ -2,11 +2,10 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
-import java.util.LinkedHashSet;
-
 public class ReflectiveLazyConstantFactory<T> extends AbstractReflectiveGenericFactory<T> {
     private final String typeName;
     private final String redConstant;
@@ -19,7 +18,7 @@ public class ReflectiveLazyConstantFactory<T> extends AbstractReflectiveGenericF
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         ConditionalInstantiator ci = new ConditionalInstantiator(typeName);
 
         Object red = ci.returnConstant(redConstant);
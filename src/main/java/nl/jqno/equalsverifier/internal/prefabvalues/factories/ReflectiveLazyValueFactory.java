@@ -0,0 +1,36 @@
+package nl.jqno.equalsverifier.internal.prefabvalues.factories;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
+
+/**
+ * Implementation of {@link PrefabValueFactory} that creates values of a type
+ * that may or may not be present on the classpath, using reflection.
+ *
+ * The type isn't loaded until values are actually needed.
+ */
+public abstract class ReflectiveLazyValueFactory<T> extends AbstractReflectiveGenericFactory<T> {
+    private final String typeName;
+
+    public ReflectiveLazyValueFactory(String typeName) {
+        this.typeName = typeName;
+    }
+
+    protected abstract Object createRed(ConditionalInstantiator ci);
+
+    protected abstract Object createBlack(ConditionalInstantiator ci);
+
+    @Override
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        ConditionalInstantiator ci = new ConditionalInstantiator(typeName);
+
+        Object red = createRed(ci);
+        Object black = createBlack(ci);
+        Object redCopy = createRed(ci);
+
+        return Tuple.of(red, black, redCopy);
+    }
+}
@@ -2,11 +2,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
 import java.util.Comparator;
-import java.util.LinkedHashSet;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.*;
 
@@ -49,10 +49,10 @@ public abstract class ReflectiveMapFactory<T> extends AbstractReflectiveGenericF
     protected abstract Object createEmpty();
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
-        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
+        TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
 
         Object red = createWith(prefabValues.giveRed(keyTag), prefabValues.giveBlack(valueTag));
         Object black = createWith(prefabValues.giveBlack(keyTag), prefabValues.giveBlack(valueTag));
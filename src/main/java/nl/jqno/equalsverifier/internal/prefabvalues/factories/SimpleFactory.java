@@ -2,23 +2,50 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
-import java.util.LinkedHashSet;
-
 /**
  * Implementation of {@link PrefabValueFactory} that holds on to two instances
  * that have already been created.
+ *
+ * Two factories are equal if they hold the very same instances. The values'
+ * own {@code equals} and {@code hashCode} are never called, because those
+ * may well be the methods that are under test.
  */
 public class SimpleFactory<T> implements PrefabValueFactory<T> {
-    private Tuple<T> tuple;
+    private final Tuple<T> tuple;
 
     public SimpleFactory(T red, T black, T redCopy) {
         this.tuple = new Tuple<>(red, black, redCopy);
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         return tuple;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SimpleFactory)) {
+            return false;
+        }
+        Tuple<?> other = ((SimpleFactory<?>)obj).tuple;
+        return tuple.getRed() == other.getRed() &&
+                tuple.getBlack() == other.getBlack() &&
+                tuple.getRedCopy() == other.getRedCopy();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int result = System.identityHashCode(tuple.getRed());
+        result = (31 * result) + System.identityHashCode(tuple.getBlack());
+        return (31 * result) + System.identityHashCode(tuple.getRedCopy());
+    }
 }
@@ -2,16 +2,15 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
-import java.util.LinkedHashSet;
-
 @SuppressWarnings("rawtypes")
 public class ThreadLocalFactory extends AbstractReflectiveGenericFactory<ThreadLocal> {
     @Override
-    public Tuple<ThreadLocal> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
+    public Tuple<ThreadLocal> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
+        TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
 
         Object redInitial = prefabValues.giveRed(entryTag);
         Object blackInitial = prefabValues.giveBlack(entryTag);
@@ -9,8 +9,10 @@ import nl.jqno.equalsverifier.internal.reflection.annotations.NonnullAnnotationV
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -30,17 +32,26 @@ public class ClassAccessor<T> {
     private final Set<String> ignoredAnnotations;
     private final boolean ignoreAnnotationFailure;
     private final AnnotationAccessor annotationAccessor;
+    private final boolean reuseTemplates;
+    private final Map<TypeTag, ObjectAccessor<T>> redTemplates = new HashMap<>();
+    private final Map<TypeTag, ObjectAccessor<T>> blackTemplates = new HashMap<>();
 
     /**
      * Private constructor. Call {@link #of(Class, PrefabValues, Set, boolean)} instead.
      */
     ClassAccessor(Class<T> type, PrefabValues prefabValues, Annotation[] supportedAnnotations,
             Set<String> ignoredAnnotations, boolean ignoreAnnotationFailure) {
+        this(type, prefabValues, supportedAnnotations, ignoredAnnotations, ignoreAnnotationFailure, false);
+    }
+
+    private ClassAccessor(Class<T> type, PrefabValues prefabValues, Annotation[] supportedAnnotations,
+            Set<String> ignoredAnnotations, boolean ignoreAnnotationFailure, boolean reuseTemplates) {
         this.type = type;
         this.prefabValues = prefabValues;
         this.supportedAnnotations = supportedAnnotations;
         this.ignoredAnnotations = ignoredAnnotations;
         this.ignoreAnnotationFailure = ignoreAnnotationFailure;
+        this.reuseTemplates = reuseTemplates;
         this.annotationAccessor = new AnnotationAccessor(supportedAnnotations, type, ignoredAnnotations, ignoreAnnotationFailure);
     }
 
@@ -62,6 +73,26 @@ public class ClassAccessor<T> {
         return new ClassAccessor<>(type, prefabValues, SupportedAnnotations.values(), ignoredAnnotations, ignoreAnnotationFailure);
     }
 
+    /**
+     * Factory method for a {@link ClassAccessor} that will be asked for red
+     * and black objects many times. It scrambles them only once per enclosing
+     * type, and hands out copies after that.
+     *
+     * @param <T> The class on which {@link ClassAccessor} operates.
+     * @param type The class on which {@link ClassAccessor} operates. Should be
+     *          the same as T.
+     * @param prefabValues Prefabricated values with which to fill instantiated
+     *          objects.
+     * @param ignoredAnnotations A collection of type descriptors for
+     *          annotations to ignore.
+     * @param ignoreAnnotationFailure Ignore when processing annotations fails.
+     * @return A {@link ClassAccessor} for T.
+     */
+    public static <T> ClassAccessor<T> ofReusable(Class<T> type, PrefabValues prefabValues,
+            Set<String> ignoredAnnotations, boolean ignoreAnnotationFailure) {
+        return new ClassAccessor<>(type, prefabValues, SupportedAnnotations.values(), ignoredAnnotations, ignoreAnnotationFailure, true);
+    }
+
     /**
      * Getter.
      */
@@ -104,29 +135,27 @@ public class ClassAccessor<T> {
      * @return True if the package in which T resides has the specified annotation.
      */
     public boolean packageHasAnnotation(Annotation annotation) {
-        try {
-            Package pkg = type.getPackage();
-            if (pkg == null) {
-                return false;
-            }
-
-            String packageName = pkg.getName();
-            Map.Entry<String, Annotation> entry = new SimpleImmutableEntry<>(packageName, annotation);
-            Boolean hasAnnotation = PACKAGE_ANNOTATION_CACHE.get(entry);
-            if (hasAnnotation != null) {
-                return hasAnnotation;
-            }
+        Package pkg = type.getPackage();
+        if (pkg == null) {
+            return false;
+        }
 
-            String className = packageName + ".package-info";
-            Class<?> packageType = Class.forName(className);
-            AnnotationAccessor accessor = new AnnotationAccessor(supportedAnnotations, packageType, ignoredAnnotations, ignoreAnnotationFailure);
-            hasAnnotation = accessor.typeHas(annotation);
-            PACKAGE_ANNOTATION_CACHE.put(entry, hasAnnotation);
+        String packageName = pkg.getName();
+        Map.Entry<String, Annotation> entry = new SimpleImmutableEntry<>(packageName, annotation);
+        Boolean hasAnnotation = PACKAGE_ANNOTATION_CACHE.get(entry);
+        if (hasAnnotation != null) {
             return hasAnnotation;
         }
-        catch (ClassNotFoundException e) {
+
+        String className = packageName + ".package-info";
+        Class<?> packageType = Util.classForName(className);
+        if (packageType == null) {
             return false;
         }
+        AnnotationAccessor accessor = new AnnotationAccessor(supportedAnnotations, packageType, ignoredAnnotations, ignoreAnnotationFailure);
+        hasAnnotation = accessor.typeHas(annotation);
+        PACKAGE_ANNOTATION_CACHE.put(entry, hasAnnotation);
+        return hasAnnotation;
     }
 
     /**
@@ -147,13 +176,7 @@ public class ClassAccessor<T> {
      * @return True if T declares the field.
      */
     public boolean declaresField(Field field) {
-        try {
-            type.getDeclaredField(field.getName());
-            return true;
-        }
-        catch (NoSuchFieldException e) {
-            return false;
-        }
+        return ClassMetadata.of(type).declaresField(field.getName());
     }
 
     /**
@@ -162,7 +185,7 @@ public class ClassAccessor<T> {
      * @return True if T has an {@code equals} method.
      */
     public boolean declaresEquals() {
-        return declaresMethod("equals", Object.class);
+        return ClassMetadata.of(type).declaresEquals();
     }
 
     /**
@@ -171,17 +194,7 @@ public class ClassAccessor<T> {
      * @return True if T has an {@code hashCode} method.
      */
     public boolean declaresHashCode() {
-        return declaresMethod("hashCode");
-    }
-
-    private boolean declaresMethod(String name, Class<?>... parameterTypes) {
-        try {
-            type.getDeclaredMethod(name, parameterTypes);
-            return true;
-        }
-        catch (NoSuchMethodException e) {
-            return false;
-        }
+        return ClassMetadata.of(type).declaresHashCode();
     }
 
     /**
@@ -190,7 +203,7 @@ public class ClassAccessor<T> {
      * @return True if T's {@code equals} method is abstract.
      */
     public boolean isEqualsAbstract() {
-        return isMethodAbstract("equals", Object.class);
+        return isAbstract(ClassMetadata.of(type).getEqualsMethod());
     }
 
     /**
@@ -199,16 +212,14 @@ public class ClassAccessor<T> {
      * @return True if T's {@code hashCode} method is abstract.
      */
     public boolean isHashCodeAbstract() {
-        return isMethodAbstract("hashCode");
+        return isAbstract(ClassMetadata.of(type).getHashCodeMethod());
     }
 
-    private boolean isMethodAbstract(String name, Class<?>... parameterTypes) {
-        try {
-            return Modifier.isAbstract(type.getMethod(name, parameterTypes).getModifiers());
-        }
-        catch (NoSuchMethodException e) {
+    private boolean isAbstract(Method method) {
+        if (method == null) {
             throw new ReflectionException("Should never occur (famous last words)");
         }
+        return Modifier.isAbstract(method.getModifiers());
     }
 
     /**
@@ -220,14 +231,7 @@ public class ClassAccessor<T> {
      *          superclasses (except {@link Object}).
      */
     public boolean isEqualsInheritedFromObject() {
-        ClassAccessor<? super T> i = this;
-        while (i.getType() != Object.class) {
-            if (i.declaresEquals() && !i.isEqualsAbstract()) {
-                return false;
-            }
-            i = i.getSuperAccessor();
-        }
-        return true;
+        return ClassMetadata.of(type).isEqualsInheritedFromObject();
     }
 
     /**
@@ -261,6 +265,9 @@ public class ClassAccessor<T> {
      * @return An {@link ObjectAccessor} for {@link #getRedObject(TypeTag)}.
      */
     public ObjectAccessor<T> getRedAccessor(TypeTag enclosingType) {
+        if (reuseTemplates) {
+            return ObjectAccessor.of(getRedTemplate(enclosingType).copy());
+        }
         ObjectAccessor<T> result = buildObjectAccessor();
         result.scramble(prefabValues, enclosingType);
         return result;
@@ -288,10 +295,32 @@ public class ClassAccessor<T> {
      * @return An {@link ObjectAccessor} for {@link #getBlackObject(TypeTag)}.
      */
     public ObjectAccessor<T> getBlackAccessor(TypeTag enclosingType) {
-        ObjectAccessor<T> result = buildObjectAccessor();
-        result.scramble(prefabValues, enclosingType);
-        result.scramble(prefabValues, enclosingType);
-        return result;
+        if (!reuseTemplates) {
+            ObjectAccessor<T> result = buildObjectAccessor();
+            result.scramble(prefabValues, enclosingType);
+            result.scramble(prefabValues, enclosingType);
+            return result;
+        }
+        ObjectAccessor<T> template = blackTemplates.get(enclosingType);
+        if (template == null) {
+            template = ObjectAccessor.of(getRedTemplate(enclosingType).copy());
+            template.scramble(prefabValues, enclosingType);
+            blackTemplates.put(enclosingType, template);
+        }
+        return ObjectAccessor.of(template.copy());
+    }
+
+    // Scrambling is deterministic: it only depends on the prefab values and on
+    // the current values of the fields. So the red and black objects are
+    // scrambled once and then handed out as copies.
+    private ObjectAccessor<T> getRedTemplate(TypeTag enclosingType) {
+        ObjectAccessor<T> template = redTemplates.get(enclosingType);
+        if (template == null) {
+            template = buildObjectAccessor();
+            template.scramble(prefabValues, enclosingType);
+            redTemplates.put(enclosingType, template);
+        }
+        return template;
     }
 
     /**
@@ -0,0 +1,186 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable, cached answers to the reflective questions that the checkers ask
+ * about a class, such as whether it declares a given field or an equals
+ * method.
+ *
+ * Computed once per class, without using exceptions for control flow, so
+ * that asking the same question over and over again is cheap.
+ */
+public final class ClassMetadata {
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Set<String> declaredFieldNames;
+    private final List<Method> declaredEqualsMethods;
+    private final boolean declaresEquals;
+    private final boolean declaresHashCode;
+    private final Method equalsMethod;
+    private final Method hashCodeMethod;
+    private final List<Class<?>> superclasses;
+    private final boolean equalsInheritedFromObject;
+    private volatile int enumConstantCount = -1;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+
+        Set<String> fieldNames = new HashSet<>();
+        for (Field field : type.getDeclaredFields()) {
+            fieldNames.add(field.getName());
+        }
+        this.declaredFieldNames = Collections.unmodifiableSet(fieldNames);
+
+        List<Method> equalsMethods = new ArrayList<>();
+        boolean equals = false;
+        boolean concreteEquals = false;
+        boolean hashCode = false;
+        for (Method method : type.getDeclaredMethods()) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (method.getName().equals("equals")) {
+                equalsMethods.add(method);
+                if (parameterTypes.length == 1 && parameterTypes[0] == Object.class) {
+                    equals = true;
+                    concreteEquals = !Modifier.isAbstract(method.getModifiers());
+                }
+            }
+            if (method.getName().equals("hashCode") && parameterTypes.length == 0) {
+                hashCode = true;
+            }
+        }
+        this.declaredEqualsMethods = Collections.unmodifiableList(equalsMethods);
+        this.declaresEquals = equals;
+        this.declaresHashCode = hashCode;
+
+        this.equalsMethod = findPublicMethod(type, "equals", Object.class);
+        this.hashCodeMethod = findPublicMethod(type, "hashCode");
+
+        List<Class<?>> supers = new ArrayList<>();
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null && !superclass.equals(Object.class)) {
+            supers.add(superclass);
+            supers.addAll(of(superclass).getSuperclasses());
+        }
+        this.superclasses = Collections.unmodifiableList(supers);
+
+        boolean inherited = !concreteEquals;
+        if (superclass != null && !superclass.equals(Object.class)) {
+            inherited &= of(superclass).isEqualsInheritedFromObject();
+        }
+        this.equalsInheritedFromObject = type.equals(Object.class) || inherited;
+    }
+
+    /**
+     * Factory method. Returns the cached metadata for the given class.
+     *
+     * @param type The class that is described.
+     * @return The metadata for {@code type}.
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * Determines whether the class declares a field with the given name.
+     *
+     * @param name The name of the field.
+     * @return True if the class declares the field itself; false if it
+     *          doesn't, or if it inherits it.
+     */
+    public boolean declaresField(String name) {
+        return declaredFieldNames.contains(name);
+    }
+
+    /**
+     * Returns whether the class declares {@code equals(Object)} itself.
+     */
+    public boolean declaresEquals() {
+        return declaresEquals;
+    }
+
+    /**
+     * Returns whether the class declares {@code hashCode()} itself.
+     */
+    public boolean declaresHashCode() {
+        return declaresHashCode;
+    }
+
+    /**
+     * Returns all methods named {@code equals} that the class declares
+     * itself, regardless of their parameters.
+     */
+    public List<Method> getDeclaredEqualsMethods() {
+        return declaredEqualsMethods;
+    }
+
+    /**
+     * Returns the public {@code equals(Object)} method of the class, which
+     * may be inherited, or null if there is none; for instance, because the
+     * class is an interface. Looked up only once, so the exception that
+     * signals a missing method is thrown at most once per class.
+     */
+    public Method getEqualsMethod() {
+        return equalsMethod;
+    }
+
+    /**
+     * Returns the public {@code hashCode()} method of the class, which may be
+     * inherited, or null if there is none; for instance, because the class is
+     * an interface.
+     */
+    public Method getHashCodeMethod() {
+        return hashCodeMethod;
+    }
+
+    /**
+     * Returns the superclasses of the class, from its direct superclass
+     * upwards, excluding Object.
+     */
+    public List<Class<?>> getSuperclasses() {
+        return superclasses;
+    }
+
+    /**
+     * Returns whether neither the class nor any of its superclasses declares
+     * a concrete {@code equals(Object)} method.
+     */
+    public boolean isEqualsInheritedFromObject() {
+        return equalsInheritedFromObject;
+    }
+
+    /**
+     * Returns the number of constants of the class, if it's an enum; 0
+     * otherwise. Computed on first use, because it initializes the enum.
+     */
+    public int getEnumConstantCount() {
+        int result = enumConstantCount;
+        if (result < 0) {
+            result = type.isEnum() ? type.getEnumConstants().length : 0;
+            enumConstantCount = result;
+        }
+        return result;
+    }
+
+    private static Method findPublicMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        }
+        catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
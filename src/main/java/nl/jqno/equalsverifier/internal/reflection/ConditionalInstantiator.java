@@ -1,18 +1,26 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
 /**
  * Allows instantiation of classes that may or may not be present on the classpath.
+ *
+ * The constructors, factory methods and constants that were used before are
+ * remembered by the names of their classes, so calling them again doesn't
+ * have to resolve those classes or their members again.
  */
 public class ConditionalInstantiator {
+    // Keyed by class name, because the point is to skip resolving the class.
+    // The names are always resolved from EqualsVerifier's own class loader,
+    // so the handles only refer to classes that it can see anyway.
+    private static final ConcurrentMap<String, MethodHandle> HANDLES = new ConcurrentHashMap<>();
+
     private final String fullyQualifiedClassName;
     private final boolean throwExceptions;
 
@@ -63,20 +71,22 @@ public class ConditionalInstantiator {
      *         parameter values, or null if the type does not exist.
      * @throws ReflectionException If instantiation fails.
      */
-    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
     public Object instantiate(Class<?>[] paramTypes, Object[] paramValues) {
-        try {
+        String key = fullyQualifiedClassName + "#" + MethodHandleCache.keyOf("<init>", paramTypes);
+        MethodHandle handle = HANDLES.get(key);
+        if (handle == null) {
             Class<?> type = resolve();
             if (type == null) {
                 return null;
             }
-            Constructor<?> c = type.getConstructor(paramTypes);
-            c.setAccessible(true);
-            return c.newInstance(paramValues);
-        }
-        catch (Exception e) {
-            return handleException(e);
+            try {
+                handle = put(key, MethodHandleCache.constructor(type, paramTypes));
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return handleException(e);
+            }
         }
+        return invoke(handle, paramValues);
     }
 
     /**
@@ -115,21 +125,23 @@ public class ConditionalInstantiator {
      * @throws ReflectionException
      *          If the call to the factory method fails.
      */
-    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
     public Object callFactory(String factoryTypeName, String factoryMethod, Class<?>[] paramTypes, Object[] paramValues) {
-        try {
+        String key = fullyQualifiedClassName + " " + factoryTypeName + "#" + MethodHandleCache.keyOf(factoryMethod, paramTypes);
+        MethodHandle handle = HANDLES.get(key);
+        if (handle == null) {
             Class<?> type = resolve();
             if (type == null) {
                 return null;
             }
-            Class<?> factoryType = Class.forName(factoryTypeName);
-            Method factory = factoryType.getMethod(factoryMethod, paramTypes);
-            factory.setAccessible(true);
-            return factory.invoke(null, paramValues);
-        }
-        catch (Exception e) {
-            return handleException(e);
+            try {
+                Class<?> factoryType = Class.forName(factoryTypeName);
+                handle = put(key, MethodHandleCache.method(factoryType, factoryMethod, paramTypes));
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return handleException(e);
+            }
         }
+        return invoke(handle, paramValues);
     }
 
     /**
@@ -141,23 +153,43 @@ public class ConditionalInstantiator {
      * @throws ReflectionException
      *          If resolving the constant fails.
      */
-    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
     public Object returnConstant(String constantName) {
-        try {
+        String key = fullyQualifiedClassName + "#" + constantName;
+        MethodHandle handle = HANDLES.get(key);
+        if (handle == null) {
             Class<?> type = resolve();
             if (type == null) {
                 return null;
             }
-            Field field = type.getField(constantName);
-            field.setAccessible(true);
-            return field.get(null);
+            try {
+                handle = put(key, MethodHandleCache.staticField(type, constantName));
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return handleException(e);
+            }
+        }
+        return invoke(handle, new Object[0]);
+    }
+
+    // The classes involved have already been initialized while resolving the
+    // handle, so anything thrown here comes from the member itself, or from
+    // arguments that don't fit. Like reflection's InvocationTargetException,
+    // that includes Errors.
+    private Object invoke(MethodHandle handle, Object[] paramValues) {
+        try {
+            return MethodHandleCache.invoke(handle, null, paramValues);
         }
-        catch (Exception e) {
+        catch (Throwable e) {
             return handleException(e);
         }
     }
 
-    private Object handleException(Exception e) {
+    private static MethodHandle put(String key, MethodHandle handle) {
+        MethodHandle existing = HANDLES.putIfAbsent(key, handle);
+        return existing == null ? handle : existing;
+    }
+
+    private Object handleException(Throwable e) {
         if (throwExceptions) {
             throw new ReflectionException(e);
         }
@@ -0,0 +1,112 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copies all instance fields of a class from one object into another.
+ *
+ * Created once per class. If all fields can be accessed through method
+ * handles, their copy operations are combined into a single method handle,
+ * which the JIT compiles into straight-line code. Otherwise, the fields are
+ * copied one by one through {@link FieldAccessor}.
+ */
+final class Copier {
+    private static final ClassValue<Copier> CACHE = new ClassValue<Copier>() {
+        @Override
+        protected Copier computeValue(Class<?> type) {
+            return new Copier(type);
+        }
+    };
+    private static final MethodHandle NO_OP = createNoOp();
+
+    private final List<Field> fields;
+    private final MethodHandle combined;
+
+    private Copier(Class<?> type) {
+        this.fields = FieldPlan.of(type).getInstanceFields();
+        this.combined = combine(fields);
+    }
+
+    /**
+     * Factory method. Returns the cached copier for the given class.
+     *
+     * @param type The class whose fields are copied.
+     * @return The copier for {@code type}.
+     */
+    public static Copier of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Copies the instance fields of {@code from} into {@code to}. {@code to}
+     * must be an instance of the class of this copier, or of a subclass.
+     */
+    public void copy(Object from, Object to) {
+        if (combined == null) {
+            for (Field field : fields) {
+                new FieldAccessor(from, field).copyTo(to);
+            }
+            return;
+        }
+        try {
+            combined.invokeExact(from, to);
+        }
+        catch (Throwable e) {
+            throw FieldHandles.propagate(e);
+        }
+    }
+
+    /**
+     * Returns whether this copier uses method handles.
+     */
+    boolean isCombined() {
+        return combined != null;
+    }
+
+    private static MethodHandle combine(List<Field> fields) {
+        List<MethodHandle> copiers = new ArrayList<>();
+        for (Field field : fields) {
+            FieldHandles handles = FieldHandles.of(field);
+            MethodHandle copier = handles == null ? null : handles.copier();
+            if (copier == null) {
+                return null;
+            }
+            copiers.add(copier);
+        }
+        return combine(copiers, 0, copiers.size());
+    }
+
+    /*
+     * Combines the copiers in a balanced tree, so that even classes with many
+     * fields don't result in deeply nested method handles.
+     */
+    private static MethodHandle combine(List<MethodHandle> copiers, int from, int to) {
+        int size = to - from;
+        if (size == 0) {
+            return NO_OP;
+        }
+        if (size == 1) {
+            return copiers.get(from);
+        }
+        int middle = from + (size / 2);
+        return MethodHandles.foldArguments(combine(copiers, middle, to), combine(copiers, from, middle));
+    }
+
+    private static MethodHandle createNoOp() {
+        try {
+            return MethodHandles.lookup().findStatic(Copier.class, "noOp", FieldHandles.COPIER_TYPE);
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static void noOp(Object from, Object to) {
+        // Copies nothing, for classes without instance fields.
+    }
+}
@@ -10,6 +10,9 @@ import java.lang.reflect.Modifier;
 
 /**
  * Provides reflective access to one field of an object.
+ *
+ * Uses method handles where possible, and falls back to plain reflection
+ * otherwise.
  */
 public class FieldAccessor {
     private final Object object;
@@ -87,7 +90,7 @@ public class FieldAccessor {
      */
     public boolean fieldIsEmptyOrSingleValueEnum() {
         Class<?> type = field.getType();
-        return type.isEnum() && type.getEnumConstants().length <= 1;
+        return type.isEnum() && ClassMetadata.of(type).getEnumConstantCount() <= 1;
     }
 
     /**
@@ -98,7 +101,11 @@ public class FieldAccessor {
      */
     @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "Only called in test code, not production.")
     public Object get() {
-        field.setAccessible(true);
+        makeAccessible();
+        FieldHandles handles = FieldHandles.of(field);
+        if (handles != null) {
+            return handles.get(object);
+        }
         try {
             return field.get(object);
         }
@@ -174,7 +181,7 @@ public class FieldAccessor {
             return;
         }
 
-        field.setAccessible(true);
+        makeAccessible();
         try {
             modifier.modify();
         }
@@ -183,6 +190,12 @@ public class FieldAccessor {
         }
     }
 
+    private void makeAccessible() {
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
+    }
+
     /**
      * Determines whether the field can be modified using reflection.
      *
@@ -212,13 +225,20 @@ public class FieldAccessor {
 
         @Override
         public void modify() throws IllegalAccessException {
-            field.set(object, newValue);
+            FieldHandles handles = FieldHandles.of(field);
+            if (handles == null || !handles.set(object, newValue)) {
+                field.set(object, newValue);
+            }
         }
     }
 
     private class FieldDefaulter implements FieldModifier {
         @Override
         public void modify() throws IllegalAccessException {
+            FieldHandles handles = FieldHandles.of(field);
+            if (handles != null && handles.setDefault(object)) {
+                return;
+            }
             Class<?> type = field.getType();
             if (type == boolean.class){
                 field.setBoolean(object, false);
@@ -259,7 +279,10 @@ public class FieldAccessor {
 
         @Override
         public void modify() throws IllegalAccessException {
-            field.set(to, field.get(object));
+            FieldHandles handles = FieldHandles.of(field);
+            if (handles == null || !handles.copy(object, to)) {
+                field.set(to, field.get(object));
+            }
         }
     }
 
@@ -274,8 +297,12 @@ public class FieldAccessor {
 
         @Override
         public void modify() throws IllegalAccessException {
-            Object newValue = prefabValues.giveOther(TypeTag.of(field, enclosingType), field.get(object));
-            field.set(object, newValue);
+            FieldHandles handles = FieldHandles.of(field);
+            Object oldValue = handles == null ? field.get(object) : handles.get(object);
+            Object newValue = prefabValues.giveOther(TypeTag.of(field, enclosingType), oldValue);
+            if (handles == null || !handles.set(object, newValue)) {
+                field.set(object, newValue);
+            }
         }
     }
 }
@@ -0,0 +1,270 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads, writes and copies the value of a field through method handles,
+ * which avoids the access checks of {@link Field#get(Object)} and
+ * {@link Field#set(Object, Object)}, and the boxing of primitive values when
+ * copying or defaulting them.
+ *
+ * Created once per field and cached. For fields that can't be reached
+ * through a method handle, {@link #of(Field)} returns null, and callers
+ * should use reflection instead. The same goes for the individual
+ * operations: each of them returns false if it can't be performed with a
+ * method handle.
+ */
+final class FieldHandles {
+    private static final ClassValue<ConcurrentMap<Field, FieldHandles>> CACHE =
+        new ClassValue<ConcurrentMap<Field, FieldHandles>>() {
+            @Override
+            protected ConcurrentMap<Field, FieldHandles> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    static final MethodType COPIER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final FieldHandles UNAVAILABLE = new FieldHandles(Object.class, null, null);
+
+    private final Class<?> fieldType;
+    private final Kind kind;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldHandles(Class<?> fieldType, MethodHandle getter, MethodHandle setter) {
+        this.fieldType = fieldType;
+        this.kind = Kind.of(fieldType);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Factory method. Returns the cached handles for the given field.
+     *
+     * @param field The field to access.
+     * @return The handles for {@code field}, or null if the field can't be
+     *          accessed through method handles.
+     */
+    public static FieldHandles of(Field field) {
+        ConcurrentMap<Field, FieldHandles> handles = CACHE.get(field.getDeclaringClass());
+        FieldHandles result = handles.get(field);
+        if (result == null) {
+            result = create(field);
+            FieldHandles existing = handles.putIfAbsent(field, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result == UNAVAILABLE ? null : result;
+    }
+
+    private static FieldHandles create(Field field) {
+        if (!field.isAccessible()) {
+            return UNAVAILABLE;
+        }
+        Kind kind = Kind.of(field.getType());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        int modifiers = field.getModifiers();
+        boolean isStatic = Modifier.isStatic(modifiers);
+        try {
+            MethodHandle getter = adapt(lookup.unreflectGetter(field), isStatic, kind.getterType());
+            MethodHandle setter = null;
+            if (!isStatic || !Modifier.isFinal(modifiers)) {
+                setter = adapt(lookup.unreflectSetter(field), isStatic, kind.setterType());
+            }
+            return new FieldHandles(field.getType(), getter, setter);
+        }
+        catch (IllegalAccessException e) {
+            return UNAVAILABLE;
+        }
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, boolean isStatic, MethodType type) {
+        MethodHandle result = isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+        return result.asType(type);
+    }
+
+    /**
+     * Returns the value of the field in the given object; boxed, if the field
+     * is primitive.
+     */
+    public Object get(Object object) {
+        try {
+            switch (kind) {
+                case BOOLEAN: return (boolean)getter.invokeExact(object);
+                case BYTE: return (byte)getter.invokeExact(object);
+                case CHAR: return (char)getter.invokeExact(object);
+                case DOUBLE: return (double)getter.invokeExact(object);
+                case FLOAT: return (float)getter.invokeExact(object);
+                case INT: return (int)getter.invokeExact(object);
+                case LONG: return (long)getter.invokeExact(object);
+                case SHORT: return (short)getter.invokeExact(object);
+                default: return (Object)getter.invokeExact(object);
+            }
+        }
+        catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Sets the field in the given object to the given value, if it can be
+     * done without a conversion other than unboxing.
+     *
+     * @return Whether the value was set.
+     */
+    public boolean set(Object object, Object value) {
+        if (setter == null || !accepts(value)) {
+            return false;
+        }
+        try {
+            switch (kind) {
+                case BOOLEAN: setter.invokeExact(object, ((Boolean)value).booleanValue()); break;
+                case BYTE: setter.invokeExact(object, ((Byte)value).byteValue()); break;
+                case CHAR: setter.invokeExact(object, ((Character)value).charValue()); break;
+                case DOUBLE: setter.invokeExact(object, ((Double)value).doubleValue()); break;
+                case FLOAT: setter.invokeExact(object, ((Float)value).floatValue()); break;
+                case INT: setter.invokeExact(object, ((Integer)value).intValue()); break;
+                case LONG: setter.invokeExact(object, ((Long)value).longValue()); break;
+                case SHORT: setter.invokeExact(object, ((Short)value).shortValue()); break;
+                default: setter.invokeExact(object, value); break;
+            }
+            return true;
+        }
+        catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Sets the field in the given object to its default value: null, 0 or
+     * false.
+     *
+     * @return Whether the value was set.
+     */
+    public boolean setDefault(Object object) {
+        if (setter == null) {
+            return false;
+        }
+        try {
+            switch (kind) {
+                case BOOLEAN: setter.invokeExact(object, false); break;
+                case BYTE: setter.invokeExact(object, (byte)0); break;
+                case CHAR: setter.invokeExact(object, '\u0000'); break;
+                case DOUBLE: setter.invokeExact(object, 0.0); break;
+                case FLOAT: setter.invokeExact(object, 0.0f); break;
+                case INT: setter.invokeExact(object, 0); break;
+                case LONG: setter.invokeExact(object, 0L); break;
+                case SHORT: setter.invokeExact(object, (short)0); break;
+                default: setter.invokeExact(object, (Object)null); break;
+            }
+            return true;
+        }
+        catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Copies the value of the field from one object to another, without
+     * boxing primitive values.
+     *
+     * @return Whether the value was copied.
+     */
+    public boolean copy(Object from, Object to) {
+        if (setter == null) {
+            return false;
+        }
+        try {
+            switch (kind) {
+                case BOOLEAN: setter.invokeExact(to, (boolean)getter.invokeExact(from)); break;
+                case BYTE: setter.invokeExact(to, (byte)getter.invokeExact(from)); break;
+                case CHAR: setter.invokeExact(to, (char)getter.invokeExact(from)); break;
+                case DOUBLE: setter.invokeExact(to, (double)getter.invokeExact(from)); break;
+                case FLOAT: setter.invokeExact(to, (float)getter.invokeExact(from)); break;
+                case INT: setter.invokeExact(to, (int)getter.invokeExact(from)); break;
+                case LONG: setter.invokeExact(to, (long)getter.invokeExact(from)); break;
+                case SHORT: setter.invokeExact(to, (short)getter.invokeExact(from)); break;
+                default: setter.invokeExact(to, (Object)getter.invokeExact(from)); break;
+            }
+            return true;
+        }
+        catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Returns a method handle of type {@code (Object from, Object to)void}
+     * that copies the value of the field from one object to another, or null
+     * if the field can't be written to.
+     */
+    public MethodHandle copier() {
+        if (setter == null) {
+            return null;
+        }
+        MethodHandle copyTo = MethodHandles.filterArguments(setter, 1, getter);
+        return MethodHandles.permuteArguments(copyTo, COPIER_TYPE, 1, 0);
+    }
+
+    private boolean accepts(Object value) {
+        if (kind == Kind.OBJECT) {
+            return value == null || fieldType.isInstance(value);
+        }
+        return value != null && value.getClass() == kind.wrapper;
+    }
+
+    static ReflectionException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException)e;
+        }
+        if (e instanceof Error) {
+            throw (Error)e;
+        }
+        return new ReflectionException(e);
+    }
+
+    private enum Kind {
+        BOOLEAN(boolean.class, Boolean.class),
+        BYTE(byte.class, Byte.class),
+        CHAR(char.class, Character.class),
+        DOUBLE(double.class, Double.class),
+        FLOAT(float.class, Float.class),
+        INT(int.class, Integer.class),
+        LONG(long.class, Long.class),
+        SHORT(short.class, Short.class),
+        OBJECT(Object.class, null);
+
+        private final Class<?> type;
+        private final Class<?> wrapper;
+
+        Kind(Class<?> type, Class<?> wrapper) {
+            this.type = type;
+            this.wrapper = wrapper;
+        }
+
+        public static Kind of(Class<?> fieldType) {
+            for (Kind kind : values()) {
+                if (kind.type == fieldType) {
+                    return kind;
+                }
+            }
+            return OBJECT;
+        }
+
+        public MethodType getterType() {
+            return MethodType.methodType(type, Object.class);
+        }
+
+        public MethodType setterType() {
+            return MethodType.methodType(void.class, Object.class, type);
+        }
+    }
+}
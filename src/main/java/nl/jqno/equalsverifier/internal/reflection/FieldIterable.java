@@ -1,13 +1,14 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * Iterable to iterate over all declared fields in a class and, if needed,
  * over all declared fields of its superclasses.
+ *
+ * The fields come from the class's {@link FieldPlan}, so they are looked up
+ * only once per class.
  */
 public final class FieldIterable implements Iterable<Field> {
     private final Class<?> type;
@@ -55,32 +56,7 @@ public final class FieldIterable implements Iterable<Field> {
      */
     @Override
     public Iterator<Field> iterator() {
-        return createFieldList().iterator();
-    }
-
-    private List<Field> createFieldList() {
-        List<Field> result = new ArrayList<>();
-
-        result.addAll(addFieldsFor(type));
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
-            }
-        }
-
-        return result;
-    }
-
-    private List<Field> addFieldsFor(Class<?> c) {
-        List<Field> result = new ArrayList<>();
-
-        for (Field field : c.getDeclaredFields()) {
-            if (!field.isSynthetic() && !"__cobertura_counters".equals(field.getName())) {
-                result.add(field);
-            }
-        }
-
-        return result;
+        FieldPlan plan = FieldPlan.of(type);
+        return (includeSuperclasses ? plan.getFields() : plan.getDeclaredFields()).iterator();
     }
 }
@@ -0,0 +1,120 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, cached description of the fields of a class: which fields to
+ * consider, in which order, and which of them belong to instances rather than
+ * to the class.
+ *
+ * Computed once per class. The fields have already been made accessible,
+ * where the JVM allows it.
+ *
+ * The plan doesn't keep the modifiers of the fields. Unlike
+ * {@link Class#getDeclaredFields()}, which copies the fields on every call,
+ * {@link Field#getModifiers()} only returns a value that the field already
+ * holds, so checking it directly is as cheap as a precomputed flag.
+ */
+public final class FieldPlan {
+    private static final ClassValue<FieldPlan> PLANS = new ClassValue<FieldPlan>() {
+        @Override
+        protected FieldPlan computeValue(Class<?> type) {
+            return new FieldPlan(type);
+        }
+    };
+
+    private final List<Field> declaredFields;
+    private final List<Field> declaredInstanceFields;
+    private final List<Field> fields;
+    private final List<Field> instanceFields;
+
+    private FieldPlan(Class<?> type) {
+        List<Field> declared = collectDeclaredFields(type);
+        List<Field> all = new ArrayList<>(declared);
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null && !superclass.equals(Object.class)) {
+            all.addAll(of(superclass).getFields());
+        }
+
+        this.declaredFields = Collections.unmodifiableList(declared);
+        this.declaredInstanceFields = Collections.unmodifiableList(filterInstanceFields(declared));
+        this.fields = Collections.unmodifiableList(all);
+        this.instanceFields = Collections.unmodifiableList(filterInstanceFields(all));
+    }
+
+    /**
+     * Factory method. Returns the cached plan for the given class.
+     *
+     * @param type The class whose fields are described.
+     * @return The plan for {@code type}.
+     */
+    public static FieldPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Returns the fields declared in the class itself, excluding synthetic
+     * fields and fields added by code coverage tools.
+     */
+    public List<Field> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    /**
+     * Returns the non-static subset of {@link #getDeclaredFields()}.
+     */
+    public List<Field> getDeclaredInstanceFields() {
+        return declaredInstanceFields;
+    }
+
+    /**
+     * Returns the fields declared in the class and in its superclasses, in
+     * that order.
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the non-static subset of {@link #getFields()}.
+     */
+    public List<Field> getInstanceFields() {
+        return instanceFields;
+    }
+
+    private static List<Field> collectDeclaredFields(Class<?> type) {
+        List<Field> result = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!field.isSynthetic() && !"__cobertura_counters".equals(field.getName())) {
+                makeAccessible(field);
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    private static List<Field> filterInstanceFields(List<Field> list) {
+        List<Field> result = new ArrayList<>();
+        for (Field field : list) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    private static void makeAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+        }
+        catch (RuntimeException ignored) {
+            // The module system or a SecurityManager doesn't allow it. The
+            // field will be inaccessible, and its users will find out when
+            // they try to access it, just as they would without the plan.
+        }
+    }
+}
@@ -3,13 +3,21 @@ package nl.jqno.equalsverifier.internal.reflection;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent.Span;
+import nl.jqno.equalsverifier.internal.util.VerificationCounters;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.*;
 
@@ -24,15 +32,39 @@ public final class Instantiator<T> {
             Arrays.asList("java.", "javax.", "sun.", "com.sun.", "org.w3c.dom.");
     private static final String FALLBACK_PACKAGE_NAME = getPackageName(Instantiator.class);
 
+    // Objenesis's own cache is disabled: the ClassValue below caches the
+    // instantiators without locking and without keeping classes alive.
+    private static final Objenesis OBJENESIS = new ObjenesisStd(false);
+    private static final ClassValue<ObjectInstantiator<?>> INSTANTIATORS = new ClassValue<ObjectInstantiator<?>>() {
+        @Override
+        protected ObjectInstantiator<?> computeValue(Class<?> type) {
+            return OBJENESIS.getInstantiatorOf(type);
+        }
+    };
+
+    // Several threads may ask for the same subclass at the same time. ClassValue
+    // publishes only one of the tasks they create, and only the first thread to
+    // run it generates the class; the others wait for it. Different superclasses
+    // don't block each other.
+    private static final ClassValue<FutureTask<Class<?>>> DYNAMIC_SUBCLASSES = new ClassValue<FutureTask<Class<?>>>() {
+        @Override
+        protected FutureTask<Class<?>> computeValue(final Class<?> superclass) {
+            return new FutureTask<>(new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() {
+                    return generateDynamicSubclass(superclass);
+                }
+            });
+        }
+    };
+
     private final Class<T> type;
-    private Objenesis objenesis;
 
     /**
      * Private constructor. Call {@link #of(Class)} to instantiate.
      */
     private Instantiator(Class<T> type) {
         this.type = type;
-        this.objenesis = new ObjenesisStd();
     }
 
     /**
@@ -59,7 +91,7 @@ public final class Instantiator<T> {
      * @return An object of type T.
      */
     public T instantiate() {
-        return objenesis.newInstance(type);
+        return newInstance(type);
     }
 
     /**
@@ -70,30 +102,77 @@ public final class Instantiator<T> {
      */
     public T instantiateAnonymousSubclass() {
         Class<T> proxyClass = giveDynamicSubclass(type);
-        return objenesis.newInstance(proxyClass);
+        return newInstance(proxyClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> S newInstance(Class<S> type) {
+        VerificationCounters.countInstantiation();
+        return (S)INSTANTIATORS.get(type).newInstance();
     }
 
     @SuppressWarnings("unchecked")
-    private static synchronized <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+    private static <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+        FutureTask<Class<?>> task = DYNAMIC_SUBCLASSES.get(superclass);
+        task.run();
+        try {
+            return (Class<S>)task.get();
+        }
+        catch (ExecutionException e) {
+            DYNAMIC_SUBCLASSES.remove(superclass);
+            throw FieldHandles.propagate(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReflectionException(e);
+        }
+    }
+
+    // The class may already exist in the target class loader, even though the
+    // ClassValue above doesn't know it: for instance, when another copy of
+    // EqualsVerifier generated it, or when a previous attempt failed after
+    // defining it. Defining it again fails, so the existing class is used.
+    static Class<?> generateDynamicSubclass(Class<?> superclass) {
         boolean isSystemClass = isSystemClass(superclass.getName());
 
         String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
         String name = namePrefix + "." + superclass.getSimpleName() + "$$DynamicSubclass$" + superclass.hashCode();
 
-        Class<S> existsAlready = (Class<S>)classForName(name);
-        if (existsAlready != null) {
-            return existsAlready;
-        }
-
         Class<?> context = isSystemClass ? Instantiator.class : superclass;
         ClassLoadingStrategy<? super ClassLoader> cs = getClassLoadingStrategy(context);
-        return (Class<S>)new ByteBuddy()
-                .with(TypeValidation.DISABLED)
-                .subclass(superclass)
-                .name(name)
-                .make()
-                .load(context.getClassLoader(), cs)
-                .getLoaded();
+        VerificationCounters.countDynamicSubclass();
+        Span span = FlightRecorderEvent.DYNAMIC_SUBCLASS_GENERATION.begin();
+        try {
+            return new ByteBuddy()
+                    .with(TypeValidation.DISABLED)
+                    .subclass(superclass)
+                    .name(name)
+                    .make()
+                    .load(context.getClassLoader(), cs)
+                    .getLoaded();
+        }
+        catch (LinkageError | IllegalStateException e) {
+            Class<?> existing = findExistingSubclass(name, superclass, context.getClassLoader());
+            if (existing == null) {
+                throw e;
+            }
+            return existing;
+        }
+        finally {
+            if (span.isActive()) {
+                span.end(superclass.getName());
+            }
+        }
+    }
+
+    private static Class<?> findExistingSubclass(String name, Class<?> superclass, ClassLoader classLoader) {
+        try {
+            Class<?> result = Class.forName(name, false, classLoader);
+            return result != superclass && superclass.isAssignableFrom(result) ? result : null;
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
     }
 
     private static String getPackageName(Class<?> type) {
@@ -0,0 +1,149 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves public constructors, methods and static fields as method handles,
+ * and caches them per class, so that calling the same member over and over
+ * again doesn't repeat the lookup and the access checks every time.
+ *
+ * All handles have the same type, {@code (Object receiver, Object[] args)Object},
+ * and can be called with {@link #invoke(MethodHandle, Object, Object[])}.
+ * The receiver is ignored for constructors and static members, and the
+ * result is null for methods that return void.
+ */
+public final class MethodHandleCache {
+    private static final ClassValue<ConcurrentMap<String, MethodHandle>> CACHE =
+        new ClassValue<ConcurrentMap<String, MethodHandle>>() {
+            @Override
+            protected ConcurrentMap<String, MethodHandle> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    private static final MethodType HANDLE_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private MethodHandleCache() {
+        // Do not instantiate
+    }
+
+    /**
+     * Returns a handle to a public constructor.
+     *
+     * @param type The class that declares the constructor.
+     * @param paramTypes The types of the parameters of the constructor.
+     * @return A handle that calls the constructor.
+     * @throws NoSuchMethodException If there is no such constructor.
+     * @throws IllegalAccessException If the constructor can't be accessed.
+     */
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
+    public static MethodHandle constructor(Class<?> type, Class<?>... paramTypes)
+            throws NoSuchMethodException, IllegalAccessException {
+        String key = keyOf("<init>", paramTypes);
+        MethodHandle result = CACHE.get(type).get(key);
+        if (result == null) {
+            Constructor<?> c = type.getConstructor(paramTypes);
+            c.setAccessible(true);
+            result = put(type, key, normalize(MethodHandles.lookup().unreflectConstructor(c), false));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a handle to a public method, which may be static.
+     *
+     * @param type The class that contains the method.
+     * @param name The name of the method.
+     * @param paramTypes The types of the parameters of the method.
+     * @return A handle that calls the method.
+     * @throws NoSuchMethodException If there is no such method.
+     * @throws IllegalAccessException If the method can't be accessed.
+     */
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
+    public static MethodHandle method(Class<?> type, String name, Class<?>... paramTypes)
+            throws NoSuchMethodException, IllegalAccessException {
+        String key = keyOf(name, paramTypes);
+        MethodHandle result = CACHE.get(type).get(key);
+        if (result == null) {
+            Method m = type.getMethod(name, paramTypes);
+            // Not necessary in the common case, but required for https://bugs.java.com/view_bug.do?bug_id=6924232.
+            m.setAccessible(true);
+            boolean isStatic = Modifier.isStatic(m.getModifiers());
+            result = put(type, key, normalize(MethodHandles.lookup().unreflect(m), !isStatic));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a handle that reads a public static field.
+     *
+     * @param type The class that contains the field.
+     * @param name The name of the field.
+     * @return A handle that returns the value of the field.
+     * @throws NoSuchFieldException If there is no such field.
+     * @throws IllegalAccessException If the field can't be accessed.
+     */
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
+    public static MethodHandle staticField(Class<?> type, String name)
+            throws NoSuchFieldException, IllegalAccessException {
+        MethodHandle result = CACHE.get(type).get(name);
+        if (result == null) {
+            Field f = type.getField(name);
+            if (!Modifier.isStatic(f.getModifiers())) {
+                throw new NoSuchFieldException(name + " is not static");
+            }
+            f.setAccessible(true);
+            result = put(type, name, normalize(MethodHandles.lookup().unreflectGetter(f), false));
+        }
+        return result;
+    }
+
+    /**
+     * Calls a handle that was returned by this class.
+     *
+     * @param handle The handle to call.
+     * @param receiver The object to call an instance method on; ignored
+     *          otherwise.
+     * @param args The arguments for the call.
+     * @return The result of the call.
+     * @throws Throwable Anything that the member itself throws, or an
+     *          exception if the arguments don't match its parameters.
+     */
+    public static Object invoke(MethodHandle handle, Object receiver, Object[] args) throws Throwable {
+        return (Object)handle.invokeExact(receiver, args);
+    }
+
+    private static MethodHandle put(Class<?> type, String key, MethodHandle handle) {
+        MethodHandle existing = CACHE.get(type).putIfAbsent(key, handle);
+        return existing == null ? handle : existing;
+    }
+
+    private static MethodHandle normalize(MethodHandle handle, boolean hasReceiver) {
+        MethodHandle fixed = handle.asFixedArity();
+        int count = fixed.type().parameterCount();
+        MethodHandle generic = fixed.asType(MethodType.genericMethodType(count));
+        int arity = hasReceiver ? count - 1 : count;
+        MethodHandle spread = generic.asSpreader(Object[].class, arity);
+        MethodHandle result = hasReceiver ? spread : MethodHandles.dropArguments(spread, 0, Object.class);
+        return result.asType(HANDLE_TYPE);
+    }
+
+    static String keyOf(String name, Class<?>[] paramTypes) {
+        StringBuilder result = new StringBuilder(name).append('(');
+        String separator = "";
+        for (Class<?> paramType : paramTypes) {
+            result.append(separator).append(paramType.getName());
+            separator = ",";
+        }
+        return result.append(')').toString();
+    }
+}
@@ -110,11 +110,21 @@ public final class ObjectAccessor<T> {
         return copyInto(copy);
     }
 
+    /**
+     * Copies the values of all fields of the wrapped object into another
+     * object of the same type, overwriting its current state.
+     *
+     * Note: it does a "shallow" copy. Reference fields are not copied
+     * recursively.
+     *
+     * @param target The object to copy into.
+     */
+    public void copyTo(T target) {
+        copyInto(target);
+    }
+
     private <S> S copyInto(S copy) {
-        for (Field field : FieldIterable.of(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
-            accessor.copyTo(copy);
-        }
+        Copier.of(type).copy(object, copy);
         return copy;
     }
 
@@ -137,10 +147,7 @@ public final class ObjectAccessor<T> {
      *                      contain.
      */
     public void scramble(PrefabValues prefabValues, TypeTag enclosingType) {
-        for (Field field : FieldIterable.of(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
-            accessor.changeField(prefabValues, enclosingType);
-        }
+        Scrambler.of(type).scramble(object, prefabValues, enclosingType);
     }
 
     /**
@@ -162,9 +169,6 @@ public final class ObjectAccessor<T> {
      *                      contain.
      */
     public void shallowScramble(PrefabValues prefabValues, TypeTag enclosingType) {
-        for (Field field : FieldIterable.ofIgnoringSuper(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
-            accessor.changeField(prefabValues, enclosingType);
-        }
+        Scrambler.ofIgnoringSuper(type).scramble(object, prefabValues, enclosingType);
     }
 }
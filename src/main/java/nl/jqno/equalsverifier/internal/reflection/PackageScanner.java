@@ -0,0 +1,133 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Finds the classes in a package on the classpath, both in directories and
+ * in jar files.
+ */
+public final class PackageScanner {
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String PACKAGE_INFO = "package-info";
+
+    private PackageScanner() {
+        // Do not instantiate
+    }
+
+    /**
+     * Returns the top-level and member classes in the given package, sorted
+     * by name. Anonymous, local and synthetic classes, interfaces,
+     * annotations and enums are skipped.
+     *
+     * @param packageName The package to scan, e.g. {@code "com.example.model"}.
+     * @param scanRecursively Whether to include the classes in sub-packages.
+     * @return The classes in the package.
+     * @throws ReflectionException If the classpath can't be read, or if a
+     *          class in the package can't be loaded.
+     */
+    public static List<Class<?>> getClassesIn(String packageName, boolean scanRecursively) {
+        ClassLoader loader = getClassLoader();
+        String path = packageName.replace('.', '/');
+        SortedSet<String> classNames = new TreeSet<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    scanDirectory(new File(url.toURI()), packageName, scanRecursively, classNames);
+                }
+                else {
+                    scanJar(url, path, scanRecursively, classNames);
+                }
+            }
+        }
+        catch (IOException | URISyntaxException e) {
+            throw new ReflectionException(e);
+        }
+
+        List<Class<?>> result = new ArrayList<>();
+        Map<String, LinkageError> unloadable = new TreeMap<>();
+        for (String className : classNames) {
+            try {
+                Class<?> type = Class.forName(className, false, loader);
+                if (isVerifiable(type)) {
+                    result.add(type);
+                }
+            }
+            catch (ClassNotFoundException e) {
+                // Listed, but not visible to the class loader; there's nothing to verify.
+            }
+            catch (LinkageError e) {
+                unloadable.put(className, e);
+            }
+        }
+        if (!unloadable.isEmpty()) {
+            throw new ReflectionException("Could not load " + unloadable.keySet() + " in package " + packageName + ".",
+                    unloadable.values().iterator().next());
+        }
+        return result;
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader result = Thread.currentThread().getContextClassLoader();
+        return result == null ? PackageScanner.class.getClassLoader() : result;
+    }
+
+    private static void scanDirectory(File dir, String packageName, boolean scanRecursively, Set<String> classNames) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                if (scanRecursively) {
+                    scanDirectory(file, packageName + "." + name, true, classNames);
+                }
+            }
+            else if (name.endsWith(CLASS_SUFFIX)) {
+                addClassName(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()), classNames);
+            }
+        }
+    }
+
+    private static void scanJar(URL url, String path, boolean scanRecursively, Set<String> classNames) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return;
+        }
+        JarFile jar = ((JarURLConnection)connection).getJarFile();
+        String prefix = path + "/";
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (!name.startsWith(prefix) || !name.endsWith(CLASS_SUFFIX)) {
+                continue;
+            }
+            String relativeName = name.substring(prefix.length());
+            if (scanRecursively || !relativeName.contains("/")) {
+                addClassName(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'), classNames);
+            }
+        }
+    }
+
+    private static void addClassName(String className, Set<String> classNames) {
+        if (!className.endsWith(PACKAGE_INFO)) {
+            classNames.add(className);
+        }
+    }
+
+    private static boolean isVerifiable(Class<?> type) {
+        return !type.isAnonymousClass() && !type.isLocalClass() && !type.isSynthetic() && !type.isInterface() && !type.isEnum();
+    }
+}
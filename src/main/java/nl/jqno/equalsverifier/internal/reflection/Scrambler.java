@@ -0,0 +1,74 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Changes all instance fields of an object to different values.
+ *
+ * Created once per class, for either all fields or only the fields that are
+ * declared in the class itself. Looks up the {@link FieldHandles} of each
+ * field in advance, so scrambling doesn't need to look them up again.
+ */
+final class Scrambler {
+    private static final ClassValue<Scrambler> ALL_FIELDS = new ClassValue<Scrambler>() {
+        @Override
+        protected Scrambler computeValue(Class<?> type) {
+            return new Scrambler(FieldPlan.of(type).getInstanceFields());
+        }
+    };
+    private static final ClassValue<Scrambler> DECLARED_FIELDS = new ClassValue<Scrambler>() {
+        @Override
+        protected Scrambler computeValue(Class<?> type) {
+            return new Scrambler(FieldPlan.of(type).getDeclaredInstanceFields());
+        }
+    };
+
+    private final Field[] fields;
+    private final FieldHandles[] handles;
+
+    private Scrambler(List<Field> fieldList) {
+        this.fields = fieldList.toArray(new Field[fieldList.size()]);
+        this.handles = new FieldHandles[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            handles[i] = FieldHandles.of(fields[i]);
+        }
+    }
+
+    /**
+     * Factory method. Returns the cached scrambler for all instance fields of
+     * the given class, including those of its superclasses.
+     */
+    public static Scrambler of(Class<?> type) {
+        return ALL_FIELDS.get(type);
+    }
+
+    /**
+     * Factory method. Returns the cached scrambler for the instance fields
+     * that are declared in the given class itself.
+     */
+    public static Scrambler ofIgnoringSuper(Class<?> type) {
+        return DECLARED_FIELDS.get(type);
+    }
+
+    /**
+     * Changes each field of {@code object} to a value from
+     * {@code prefabValues} that is different from its current value.
+     */
+    public void scramble(Object object, PrefabValues prefabValues, TypeTag enclosingType) {
+        for (int i = 0; i < fields.length; i++) {
+            FieldHandles h = handles[i];
+            if (h == null) {
+                new FieldAccessor(object, fields[i]).changeField(prefabValues, enclosingType);
+                continue;
+            }
+            Object newValue = prefabValues.giveOther(TypeTag.of(fields[i], enclosingType), h.get(object));
+            if (!h.set(object, newValue)) {
+                new FieldAccessor(object, fields[i]).set(newValue);
+            }
+        }
+    }
+}
@@ -3,8 +3,12 @@ package nl.jqno.equalsverifier.internal.reflection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Util {
+    private static final Set<String> MISSING_CLASS_NAMES = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
     private Util() {
         // Do not instantiate
     }
@@ -12,15 +16,22 @@ public final class Util {
     /**
      * Helper method to resolve a Class of a given name.
      *
+     * Remembers which classes don't exist, so that probing for optional
+     * dependencies only costs an exception the first time.
+     *
      * @param className The fully qualified name of the class to resolve.
      * @return The corresponding class if it exists, null otherwise.
      */
     public static Class<?> classForName(String className) {
+        if (MISSING_CLASS_NAMES.contains(className)) {
+            return null;
+        }
         try {
             return Class.forName(className);
         }
         catch (ClassNotFoundException | VerifyError e) {
             // Catching VerifyError fixes issue #147. I don't know how to unit test it.
+            MISSING_CLASS_NAMES.add(className);
             return null;
         }
     }
@@ -1,12 +1,16 @@
 package nl.jqno.equalsverifier.internal.reflection.annotations;
 
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
-import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent.Span;
+import nl.jqno.equalsverifier.internal.util.VerificationCounters;
 import org.objectweb.asm.*;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides access to the annotations that are defined on a class
@@ -14,16 +18,43 @@ import java.util.*;
  */
 public class AnnotationAccessor {
     private static final int OPCODES = Opcodes.ASM6;
+    private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    // The annotations that were found in the class file of each class,
+    // regardless of which of them are supported or ignored. Each class file
+    // is parsed only once, even if it's the superclass of many classes.
+    private static final ClassValue<ParsedClass> PARSED = new ClassValue<ParsedClass>() {
+        @Override
+        protected ParsedClass computeValue(Class<?> type) {
+            return ParsedClass.parse(type);
+        }
+    };
+
+    // The annotations of a class and its superclasses, keyed by the
+    // parameters that influence the outcome. Shared between all instances.
+    private static final ClassValue<ConcurrentMap<IndexKey, Index>> INDEX = new ClassValue<ConcurrentMap<IndexKey, Index>>() {
+        @Override
+        protected ConcurrentMap<IndexKey, Index> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // The same, but only the annotations that subclasses inherit. A class's
+    // index is built from its own annotations and its superclass's entry.
+    private static final ClassValue<ConcurrentMap<IndexKey, Index>> INHERITED_INDEX =
+        new ClassValue<ConcurrentMap<IndexKey, Index>>() {
+            @Override
+            protected ConcurrentMap<IndexKey, Index> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
 
     private final Annotation[] supportedAnnotations;
     private final Class<?> type;
     private final Set<String> ignoredAnnotations;
     private final boolean ignoreFailure;
-    private final Set<Annotation> classAnnotations = new HashSet<>();
-    private final Map<String, Set<Annotation>> fieldAnnotations = new HashMap<>();
 
-    private boolean processed = false;
-    private boolean shortCircuit = false;
+    private Index index = null;
 
     /**
      * Constructor.
@@ -49,11 +80,11 @@ public class AnnotationAccessor {
      * @return True if {@link #type} has an annotation with the supplied name.
      */
     public boolean typeHas(Annotation annotation) {
-        if (shortCircuit) {
+        Index i = process();
+        if (i.shortCircuit) {
             return false;
         }
-        process();
-        return classAnnotations.contains(annotation);
+        return i.classAnnotations.contains(annotation);
     }
 
     /**
@@ -69,11 +100,11 @@ public class AnnotationAccessor {
      *          field.
      */
     public boolean fieldHas(String fieldName, Annotation annotation) {
-        if (shortCircuit) {
+        Index i = process();
+        if (i.shortCircuit) {
             return false;
         }
-        process();
-        Set<Annotation> annotations = fieldAnnotations.get(fieldName);
+        Set<Annotation> annotations = i.fieldAnnotations.get(fieldName);
         if (annotations == null) {
             if (ignoreFailure) {
                 return false;
@@ -83,44 +114,69 @@ public class AnnotationAccessor {
         return annotations.contains(annotation);
     }
 
-    private void process() {
-        if (processed) {
-            return;
+    private Index process() {
+        if (index == null) {
+            index = indexOf(type, false, new IndexKey(supportedAnnotations, ignoredAnnotations, ignoreFailure));
         }
-
-        visit();
-        processed = true;
+        return index;
     }
 
-    private void visit() {
-        visitType(type, false);
-        for (Class<?> c : SuperclassIterable.of(type)) {
-            visitType(c, true);
+    private Index indexOf(Class<?> c, boolean inheriting, IndexKey key) {
+        ConcurrentMap<IndexKey, Index> indexes = (inheriting ? INHERITED_INDEX : INDEX).get(c);
+        Index result = indexes.get(key);
+        if (result == null) {
+            result = new Index();
+            addOwnAnnotations(result, c, inheriting);
+            Class<?> superclass = c.getSuperclass();
+            if (superclass != null && !superclass.equals(Object.class)) {
+                result.addAll(indexOf(superclass, true, key));
+            }
+            Index existing = indexes.putIfAbsent(key, result);
+            if (existing != null) {
+                result = existing;
+            }
         }
+        return result;
     }
 
-    private void visitType(Class<?> c, boolean inheriting) {
-        ClassLoader classLoader = getClassLoaderFor(c);
-        Type asmType = Type.getType(c);
-        String url = asmType.getInternalName() + ".class";
-
-        try (InputStream is = classLoader.getResourceAsStream(url)) {
-            Visitor v = new Visitor(inheriting);
-            ClassReader cr = new ClassReader(is);
-            cr.accept(v, 0);
-        }
-        catch (IOException | UnsupportedOperationException e) {
+    private void addOwnAnnotations(Index result, Class<?> c, boolean inheriting) {
+        ParsedClass parsed = PARSED.get(c);
+        if (!parsed.readable) {
             if (ignoreFailure) {
-                shortCircuit = true;
+                result.shortCircuit = true;
+                return;
             }
-            else {
-                throw new ReflectionException("Cannot read class file for " + c.getSimpleName() +
-                        ".\nSuppress Warning.ANNOTATION to skip annotation processing phase.");
+            throw new ReflectionException("Cannot read class file for " + c.getSimpleName() +
+                    ".\nSuppress Warning.ANNOTATION to skip annotation processing phase.");
+        }
+        addSupported(result.classAnnotations, parsed.classAnnotations, inheriting);
+        for (Map.Entry<String, List<AnnotationProperties>> entry : parsed.fieldAnnotations.entrySet()) {
+            Set<Annotation> annotations = new HashSet<>();
+            addSupported(annotations, entry.getValue(), inheriting);
+            result.fieldAnnotations.put(entry.getKey(), annotations);
+        }
+    }
+
+    private void addSupported(Set<Annotation> result, List<AnnotationProperties> found, boolean inheriting) {
+        for (AnnotationProperties properties : found) {
+            String annotationDescriptor = properties.getDescriptor();
+            if (ignoredAnnotations.contains(annotationDescriptor)) {
+                continue;
+            }
+            for (Annotation annotation : supportedAnnotations) {
+                if (!inheriting || annotation.inherits()) {
+                    for (String descriptor : annotation.descriptors()) {
+                        String asBytecodeIdentifier = descriptor.replaceAll("\\.", "/") + ";";
+                        if (annotationDescriptor.endsWith(asBytecodeIdentifier) && annotation.validate(properties, ignoredAnnotations)) {
+                            result.add(annotation);
+                        }
+                    }
+                }
             }
         }
     }
 
-    private ClassLoader getClassLoaderFor(Class<?> c) {
+    private static ClassLoader getClassLoaderFor(Class<?> c) {
         ClassLoader result = c.getClassLoader();
         if (result == null) {
             result = ClassLoader.getSystemClassLoader();
@@ -128,60 +184,130 @@ public class AnnotationAccessor {
         return result;
     }
 
-    private class Visitor extends ClassVisitor {
-        private final boolean inheriting;
+    private static final class IndexKey {
+        private final List<Annotation> supportedAnnotations;
+        private final Set<String> ignoredAnnotations;
+        private final boolean ignoreFailure;
+
+        IndexKey(Annotation[] supportedAnnotations, Set<String> ignoredAnnotations, boolean ignoreFailure) {
+            this.supportedAnnotations = Arrays.asList(supportedAnnotations);
+            this.ignoredAnnotations = new HashSet<>(ignoredAnnotations);
+            this.ignoreFailure = ignoreFailure;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof IndexKey)) {
+                return false;
+            }
+            IndexKey other = (IndexKey)obj;
+            return ignoreFailure == other.ignoreFailure &&
+                    supportedAnnotations.equals(other.supportedAnnotations) &&
+                    ignoredAnnotations.equals(other.ignoredAnnotations);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(supportedAnnotations, ignoredAnnotations, ignoreFailure);
+        }
+    }
+
+    // Filled in while it's being built, and never modified after it has been
+    // published in INDEX or INHERITED_INDEX. Where a class and its
+    // superclasses have a field with the same name, the superclass's
+    // annotations win.
+    private static final class Index {
+        private final Set<Annotation> classAnnotations = new HashSet<>();
+        private final Map<String, Set<Annotation>> fieldAnnotations = new HashMap<>();
+        private boolean shortCircuit = false;
+
+        private void addAll(Index other) {
+            classAnnotations.addAll(other.classAnnotations);
+            fieldAnnotations.putAll(other.fieldAnnotations);
+            shortCircuit |= other.shortCircuit;
+        }
+    }
+
+    // All annotations in a class file, on the class and on its fields.
+    private static final class ParsedClass {
+        private final boolean readable;
+        private final List<AnnotationProperties> classAnnotations = new ArrayList<>();
+        private final Map<String, List<AnnotationProperties>> fieldAnnotations = new LinkedHashMap<>();
+
+        private ParsedClass(boolean readable) {
+            this.readable = readable;
+        }
+
+        private static ParsedClass parse(Class<?> c) {
+            ClassLoader classLoader = getClassLoaderFor(c);
+            String url = Type.getType(c).getInternalName() + ".class";
 
-        public Visitor(boolean inheriting) {
+            Span span = FlightRecorderEvent.ANNOTATION_SCAN.begin();
+            try (InputStream is = classLoader.getResourceAsStream(url)) {
+                ParsedClass result = new ParsedClass(true);
+                ClassReader cr = new ClassReader(is);
+                cr.accept(new Visitor(result), PARSING_OPTIONS);
+                VerificationCounters.countClassScanned();
+                return result;
+            }
+            catch (IOException | UnsupportedOperationException e) {
+                return new ParsedClass(false);
+            }
+            finally {
+                if (span.isActive()) {
+                    span.end(c.getName());
+                }
+            }
+        }
+    }
+
+    private static class Visitor extends ClassVisitor {
+        private final ParsedClass result;
+
+        public Visitor(ParsedClass result) {
             super(OPCODES);
-            this.inheriting = inheriting;
+            this.result = result;
         }
 
         @Override
         public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-            return new MyAnnotationVisitor(descriptor, classAnnotations, inheriting);
+            return new MyAnnotationVisitor(descriptor, result.classAnnotations);
         }
 
         @Override
         public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
-            HashSet<Annotation> annotations = new HashSet<>();
-            fieldAnnotations.put(name, annotations);
-            return new MyFieldVisitor(annotations, inheriting);
+            List<AnnotationProperties> annotations = new ArrayList<>();
+            result.fieldAnnotations.put(name, annotations);
+            return new MyFieldVisitor(annotations);
         }
     }
 
-    private class MyFieldVisitor extends FieldVisitor {
-        private final Set<Annotation> fieldAnnotations;
-        private final boolean inheriting;
+    private static class MyFieldVisitor extends FieldVisitor {
+        private final List<AnnotationProperties> fieldAnnotations;
 
-        public MyFieldVisitor(Set<Annotation> fieldAnnotations, boolean inheriting) {
+        public MyFieldVisitor(List<AnnotationProperties> fieldAnnotations) {
             super(OPCODES);
             this.fieldAnnotations = fieldAnnotations;
-            this.inheriting = inheriting;
         }
 
         @Override
         public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
-            return new MyAnnotationVisitor(descriptor, fieldAnnotations, inheriting);
+            return new MyAnnotationVisitor(descriptor, fieldAnnotations);
         }
 
         @Override
         public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-            return new MyAnnotationVisitor(descriptor, fieldAnnotations, inheriting);
+            return new MyAnnotationVisitor(descriptor, fieldAnnotations);
         }
     }
 
-    private class MyAnnotationVisitor extends AnnotationVisitor {
-        private final String annotationDescriptor;
-        private final Set<Annotation> annotations;
-        private final boolean inheriting;
-
+    private static class MyAnnotationVisitor extends AnnotationVisitor {
+        private final List<AnnotationProperties> annotations;
         private final AnnotationProperties properties;
 
-        public MyAnnotationVisitor(String annotationDescriptor, Set<Annotation> annotations, boolean inheriting) {
+        public MyAnnotationVisitor(String annotationDescriptor, List<AnnotationProperties> annotations) {
             super(OPCODES);
-            this.annotationDescriptor = annotationDescriptor;
             this.annotations = annotations;
-            this.inheriting = inheriting;
             properties = new AnnotationProperties(annotationDescriptor);
         }
 
@@ -194,19 +320,7 @@ public class AnnotationAccessor {
 
         @Override
         public void visitEnd() {
-            if (ignoredAnnotations.contains(annotationDescriptor)) {
-                return;
-            }
-            for (Annotation annotation : supportedAnnotations) {
-                if (!inheriting || annotation.inherits()) {
-                    for (String descriptor : annotation.descriptors()) {
-                        String asBytecodeIdentifier = descriptor.replaceAll("\\.", "/") + ";";
-                        if (annotationDescriptor.endsWith(asBytecodeIdentifier) && annotation.validate(properties, ignoredAnnotations)) {
-                            annotations.add(annotation);
-                        }
-                    }
-                }
-            }
+            annotations.add(properties);
         }
     }
 
@@ -64,6 +64,13 @@ public class CachedHashCodeInitializer<T> {
         return cachedHashCodeField.getName();
     }
 
+    public String getCalculateHashCodeMethodName() {
+        if (isPassthrough()) {
+            return null;
+        }
+        return calculateMethod.getName();
+    }
+
     public int getInitializedHashCode(Object object) {
         if (!passthrough) {
             recomputeCachedHashCode(object);
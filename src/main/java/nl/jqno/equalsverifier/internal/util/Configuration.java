@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.util;
 
 import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
@@ -26,6 +27,8 @@ public final class Configuration<T> {
     private final boolean usingGetClass;
     private final EnumSet<Warning> warningsToSuppress;
 
+    private ClassAccessor<T> classAccessor;
+
     // CHECKSTYLE: ignore ParameterNumber for 1 line.
     private Configuration(Class<T> type, PrefabValues prefabValues, List<T> equalExamples, List<T> unequalExamples, Set<String> actualFields,
                           Set<String> excludedFields, Set<String> includedFields, Set<String> nonnullFields, Set<String> ignoredAnnotations,
@@ -50,7 +53,11 @@ public final class Configuration<T> {
     }
 
     public static <T> Configuration<T> of(Class<T> type) {
-        return new Configuration<>(type, new PrefabValues(), new ArrayList<T>(), new ArrayList<T>(),
+        return of(type, JavaApiPrefabValues.newPrefabValues());
+    }
+
+    public static <T> Configuration<T> of(Class<T> type, PrefabValues prefabValues) {
+        return new Configuration<>(type, prefabValues, new ArrayList<T>(), new ArrayList<T>(),
                 FieldNameExtractor.extractFieldNames(type), new HashSet<String>(), new HashSet<String>(),
                 new HashSet<String>(), new HashSet<String>(), CachedHashCodeInitializer.<T>passthrough(),
                 false, null, false, EnumSet.noneOf(Warning.class));
@@ -187,7 +194,10 @@ public final class Configuration<T> {
     }
 
     public ClassAccessor<T> createClassAccessor() {
-        return ClassAccessor.of(type, prefabValues, ignoredAnnotations, warningsToSuppress.contains(Warning.ANNOTATION));
+        if (classAccessor == null) {
+            classAccessor = ClassAccessor.ofReusable(type, prefabValues, ignoredAnnotations, warningsToSuppress.contains(Warning.ANNOTATION));
+        }
+        return classAccessor;
     }
 
     private Set<String> invertIncludedFields() {
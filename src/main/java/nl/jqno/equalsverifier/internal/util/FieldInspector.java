@@ -18,20 +18,64 @@ public class FieldInspector<T> {
         this.typeTag = typeTag;
     }
 
-    public void check(FieldCheck check) {
+    /**
+     * Runs the given checks on each field, and fails with the same error that
+     * running them one after the other (each check over all fields, in the
+     * given order) would give.
+     *
+     * The checks are run field by field instead, on a single pair of objects
+     * that is reset to its original state before each check. When a check
+     * fails, the checks after it can no longer produce an earlier error, so
+     * only the checks before it are run on the remaining fields.
+     *
+     * @param checks The checks to run.
+     */
+    public void check(FieldCheck... checks) {
+        ObjectAccessor<T> template = classAccessor.getRedAccessor(typeTag);
+        ObjectAccessor<T> reference = ObjectAccessor.of(template.copy());
+        ObjectAccessor<T> changed = ObjectAccessor.of(template.copy());
+
+        int enabled = checks.length;
+        Throwable failure = null;
+        boolean dirty = false;
+
         for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getRedAccessor(typeTag);
-            ObjectAccessor<T> changed = classAccessor.getRedAccessor(typeTag);
+            for (int i = 0; i < enabled; i++) {
+                if (dirty) {
+                    template.copyTo(reference.get());
+                    template.copyTo(changed.get());
+                }
+                dirty = true;
+                try {
+                    checks[i].execute(reference.fieldAccessorFor(field), changed.fieldAccessorFor(field));
+                }
+                catch (RuntimeException | Error e) {
+                    failure = e;
+                    enabled = i;
+                }
+            }
+        }
 
-            check.execute(reference.fieldAccessorFor(field), changed.fieldAccessorFor(field));
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException)failure;
+        }
+        if (failure != null) {
+            throw (Error)failure;
         }
     }
 
     public void checkWithNull(Set<String> nonnullFields, FieldCheck check) {
-        for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields);
-            ObjectAccessor<T> changed = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields);
+        ObjectAccessor<T> template = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields);
+        ObjectAccessor<T> reference = ObjectAccessor.of(template.copy());
+        ObjectAccessor<T> changed = ObjectAccessor.of(template.copy());
 
+        boolean dirty = false;
+        for (Field field : FieldIterable.of(classAccessor.getType())) {
+            if (dirty) {
+                template.copyTo(reference.get());
+                template.copyTo(changed.get());
+            }
+            dirty = true;
             check.execute(reference.fieldAccessorFor(field), changed.fieldAccessorFor(field));
         }
     }
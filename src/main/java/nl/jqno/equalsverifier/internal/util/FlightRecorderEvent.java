@@ -0,0 +1,219 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Java Flight Recorder events that EqualsVerifier emits, so that a recording
+ * shows where verification time goes.
+ *
+ * The events are defined at runtime through {@code jdk.jfr.EventFactory},
+ * which is accessed reflectively because EqualsVerifier has to run on JDKs
+ * that don't have it. On those JDKs, and when the event is not enabled in any
+ * recording, {@link #begin()} returns a {@link Span} that does nothing.
+ *
+ * Whether an event is enabled is checked at most once every
+ * {@link #RECHECK_INTERVAL_NANOS} nanoseconds, so that {@link #begin()} costs
+ * next to nothing when no recording is running. As a consequence, events
+ * that happen right after a recording starts can be missed.
+ */
+public enum FlightRecorderEvent {
+    VERIFICATION("Verification", new String[] { "type", "successful" }, new Class<?>[] { String.class, boolean.class }),
+    CHECKER("Checker", new String[] { "type", "checker" }, new Class<?>[] { String.class, String.class }),
+    PREFAB_VALUE_REALIZATION("Prefab Value Realization", new String[] { "typeTag", "depth" }, new Class<?>[] { String.class, int.class }),
+    DYNAMIC_SUBCLASS_GENERATION("Dynamic Subclass Generation", new String[] { "superclass" }, new Class<?>[] { String.class }),
+    ANNOTATION_SCAN("Annotation Scan", new String[] { "type" }, new Class<?>[] { String.class });
+
+    static final long RECHECK_INTERVAL_NANOS = 100_000_000L;
+
+    private static final String EVENT_NAME_PREFIX = "nl.jqno.equalsverifier.";
+    private static final String CATEGORY = "EqualsVerifier";
+
+    private final Object factory;
+    private final Object eventType;
+    private volatile boolean enabled = false;
+    private volatile long nextCheck;
+
+    FlightRecorderEvent(String label, String[] fieldNames, Class<?>[] fieldTypes) {
+        this.factory = createFactory(label, fieldNames, fieldTypes);
+        this.eventType = eventTypeOf(factory);
+        this.nextCheck = System.nanoTime();
+    }
+
+    /**
+     * Starts timing an event. Call {@link Span#end(Object...)} when the timed
+     * work is done, preferably in a {@code finally} block. Check
+     * {@link Span#isActive()} first if the values are expensive to compute.
+     *
+     * @return A span that records the event when it ends.
+     */
+    public Span begin() {
+        if (eventType == null || !isEnabled()) {
+            return Span.NO_OP;
+        }
+        try {
+            Object event = Jfr.newEvent.invoke(factory);
+            Jfr.begin.invoke(event);
+            return new Span(event);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            return Span.NO_OP;
+        }
+    }
+
+    private boolean isEnabled() {
+        long now = System.nanoTime();
+        if (now - nextCheck >= 0) {
+            nextCheck = now + RECHECK_INTERVAL_NANOS;
+            try {
+                enabled = (Boolean)Jfr.isTypeEnabled.invoke(eventType);
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                enabled = false;
+            }
+        }
+        return enabled;
+    }
+
+    private static Object eventTypeOf(Object factory) {
+        if (factory == null) {
+            return null;
+        }
+        try {
+            return Jfr.getEventType.invoke(factory);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private String eventName() {
+        StringBuilder result = new StringBuilder(EVENT_NAME_PREFIX);
+        for (String part : name().toLowerCase(Locale.ROOT).split("_")) {
+            result.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+        }
+        return result.toString();
+    }
+
+    private Object createFactory(String label, String[] fieldNames, Class<?>[] fieldTypes) {
+        if (!Jfr.AVAILABLE) {
+            return null;
+        }
+        try {
+            List<Object> annotations = Arrays.asList(
+                    Jfr.newAnnotationElement.newInstance(Jfr.nameAnnotation, eventName()),
+                    Jfr.newAnnotationElement.newInstance(Jfr.labelAnnotation, label),
+                    Jfr.newAnnotationElement.newInstance(Jfr.categoryAnnotation, new String[] { CATEGORY }));
+            List<Object> fields = new ArrayList<>();
+            for (int i = 0; i < fieldNames.length; i++) {
+                fields.add(Jfr.newValueDescriptor.newInstance(fieldTypes[i], fieldNames[i]));
+            }
+            return Jfr.create.invoke(null, annotations, fields);
+        }
+        catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * An event that is being timed.
+     */
+    public static final class Span {
+        private static final Span NO_OP = new Span(null);
+
+        private final Object event;
+
+        private Span(Object event) {
+            this.event = event;
+        }
+
+        /**
+         * Whether the event will be recorded. If not, {@link #end(Object...)}
+         * does nothing, and there is no need to compute its values.
+         *
+         * @return Whether the event will be recorded.
+         */
+        public boolean isActive() {
+            return event != null;
+        }
+
+        /**
+         * Stops timing the event and records it, with the given values for
+         * its fields, in the order in which they were defined.
+         *
+         * @param values The values of the event's fields.
+         */
+        public void end(Object... values) {
+            if (event == null) {
+                return;
+            }
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    Jfr.set.invoke(event, i, values[i]);
+                }
+                Jfr.end.invoke(event);
+                Jfr.commit.invoke(event);
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                // The recording is best-effort; it should never break a verification.
+                return;
+            }
+        }
+    }
+
+    // The reflective entry points into jdk.jfr, resolved once. Kept in a
+    // holder class because enum constructors can't access static fields of
+    // the enum itself.
+    private static final class Jfr {
+        private static final boolean AVAILABLE;
+        private static Method create;
+        private static Method newEvent;
+        private static Method getEventType;
+        private static Method isTypeEnabled;
+        private static Method begin;
+        private static Method end;
+        private static Method commit;
+        private static Method set;
+        private static Constructor<?> newAnnotationElement;
+        private static Constructor<?> newValueDescriptor;
+        private static Class<?> nameAnnotation;
+        private static Class<?> labelAnnotation;
+        private static Class<?> categoryAnnotation;
+
+        static {
+            boolean available;
+            try {
+                Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+                Class<?> event = Class.forName("jdk.jfr.Event");
+                Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+                Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+                Class<?> eventType = Class.forName("jdk.jfr.EventType");
+
+                create = eventFactory.getMethod("create", List.class, List.class);
+                newEvent = eventFactory.getMethod("newEvent");
+                getEventType = eventFactory.getMethod("getEventType");
+                isTypeEnabled = eventType.getMethod("isEnabled");
+                begin = event.getMethod("begin");
+                end = event.getMethod("end");
+                commit = event.getMethod("commit");
+                set = event.getMethod("set", int.class, Object.class);
+                newAnnotationElement = annotationElement.getConstructor(Class.class, Object.class);
+                newValueDescriptor = valueDescriptor.getConstructor(Class.class, String.class);
+                nameAnnotation = Class.forName("jdk.jfr.Name");
+                labelAnnotation = Class.forName("jdk.jfr.Label");
+                categoryAnnotation = Class.forName("jdk.jfr.Category");
+                available = true;
+            }
+            catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                available = false;
+            }
+            AVAILABLE = available;
+        }
+
+        private Jfr() {}
+    }
+}
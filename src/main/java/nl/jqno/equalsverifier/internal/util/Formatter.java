@@ -4,7 +4,10 @@ import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 
 import java.lang.reflect.Field;
-import java.util.regex.Matcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Formats a string with the contents of one or more objects.
@@ -15,8 +18,16 @@ import java.util.regex.Matcher;
  * the contents of its fields.
  */
 public final class Formatter {
+    private static final String PLACEHOLDER = "%%";
+
+    /**
+     * The messages, split up at their placeholders. All messages are string
+     * literals, so there's a limited number of them.
+     */
+    private static final ConcurrentMap<String, String[]> SEGMENTS = new ConcurrentHashMap<>();
+
     private final String message;
-    private Object[] objects;
+    private final Object[] objects;
 
     /**
      * Private constructor. Call {@link #of(String, Object...)} to instantiate.
@@ -52,20 +63,44 @@ public final class Formatter {
      *          not match the number of objects.
      */
     public String format() {
-        String result = message;
-        for (Object object : objects) {
-            String s = result.replaceFirst("%%", Matcher.quoteReplacement(stringify(object)));
-            if (result.equals(s)) {
-                throw new IllegalStateException("Too many parameters");
-            }
-            result = s;
+        String[] segments = segmentsOf(message);
+        if (objects.length > segments.length - 1) {
+            throw new IllegalStateException("Too many parameters");
         }
-        if (result.contains("%%")) {
+        if (objects.length < segments.length - 1) {
             throw new IllegalStateException("Not enough parameters");
         }
+
+        StringBuilder result = new StringBuilder(segments[0]);
+        for (int i = 0; i < objects.length; i++) {
+            result.append(stringify(objects[i]));
+            result.append(segments[i + 1]);
+        }
+        return result.toString();
+    }
+
+    private static String[] segmentsOf(String message) {
+        String[] result = SEGMENTS.get(message);
+        if (result == null) {
+            result = split(message);
+            SEGMENTS.putIfAbsent(message, result);
+        }
         return result;
     }
 
+    private static String[] split(String message) {
+        List<String> result = new ArrayList<>();
+        int start = 0;
+        int index = message.indexOf(PLACEHOLDER);
+        while (index >= 0) {
+            result.add(message.substring(start, index));
+            start = index + PLACEHOLDER.length();
+            index = message.indexOf(PLACEHOLDER, start);
+        }
+        result.add(message.substring(start));
+        return result.toArray(new String[result.size()]);
+    }
+
     private String stringify(Object obj) {
         if (obj == null) {
             return "null";
@@ -0,0 +1,334 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.*;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Remembers, in a directory on disk, which verifications have succeeded
+ * before, so that they can be skipped when nothing relevant has changed.
+ *
+ * A verification is identified by a SHA-256 digest over the bytecode of the
+ * class under test, its superclasses and the types of their fields, and over
+ * the configuration of the verification. The field types are followed
+ * transitively, so a change anywhere in the object graph invalidates the
+ * entry. Prefabricated values and examples are represented by their
+ * {@code toString}; verifications that involve a value that doesn't override
+ * {@code toString} aren't cached at all, since its identity hash code would
+ * produce a new key on every run. Neither are verifications that involve a
+ * value whose {@code toString} fails.
+ *
+ * Entries are written to a temporary file first, and then moved into place
+ * atomically, so that several JVMs can share the same directory. When the
+ * system property {@value #FORCE_PROPERTY} is {@code true}, existing entries
+ * are ignored, and every verification is performed (and recorded) again.
+ */
+public final class ResultCache {
+    /**
+     * System property that forces all verifications to be performed, even if
+     * they were cached.
+     */
+    public static final String FORCE_PROPERTY = "equalsverifier.resultcache.force";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String FORMAT_VERSION = "1";
+
+    private final File directory;
+
+    private ResultCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param directory The directory that contains the cache. Is created if
+     *          it doesn't exist yet.
+     * @return A {@code ResultCache} for the given directory.
+     */
+    public static ResultCache of(File directory) {
+        return new ResultCache(directory);
+    }
+
+    /**
+     * Computes the key for a verification of the given configuration.
+     *
+     * @param config The configuration of the verification.
+     * @param prefabValues The prefabricated values that were added to the
+     *          verification.
+     * @return The key, or null if the verification can't be cached; for
+     *          instance, because the bytecode of one of the classes involved
+     *          can't be found, or because an example or prefabricated value
+     *          doesn't override {@code toString}, or its {@code toString}
+     *          fails.
+     */
+    public String keyFor(Configuration<?> config, List<PrefabEntry> prefabValues) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, FORMAT_VERSION);
+            update(digest, String.valueOf(EqualsVerifier.class.getPackage().getImplementationVersion()));
+
+            for (Class<?> c : classesInvolvedIn(config)) {
+                update(digest, c.getName());
+                if (!updateWithBytecode(digest, c)) {
+                    return null;
+                }
+            }
+
+            update(digest, config.getWarningsToSuppress().toString());
+            update(digest, new TreeSet<>(config.getExcludedFields()).toString());
+            update(digest, new TreeSet<>(config.getIncludedFields()).toString());
+            update(digest, new TreeSet<>(config.getNonnullFields()).toString());
+            update(digest, new TreeSet<>(config.getIgnoredAnnotations()).toString());
+            update(digest, String.valueOf(config.isUsingGetClass()));
+            update(digest, String.valueOf(config.hasRedefinedSuperclass()));
+            CachedHashCodeInitializer<?> cachedHashCode = config.getCachedHashCodeInitializer();
+            String cachedHashCodePrefix = cachedHashCode.getCachedHashCodeFieldName() + "/" +
+                    cachedHashCode.getCalculateHashCodeMethodName() + "/";
+            if (!update(digest, cachedHashCodePrefix, describe(cachedHashCode.getExample()))) {
+                return null;
+            }
+            for (Object example : config.getEqualExamples()) {
+                if (!update(digest, "equal ", describe(example))) {
+                    return null;
+                }
+            }
+            for (Object example : config.getUnequalExamples()) {
+                if (!update(digest, "unequal ", describe(example))) {
+                    return null;
+                }
+            }
+            for (PrefabEntry entry : prefabValues) {
+                if (!update(digest, "prefab ", describe(entry))) {
+                    return null;
+                }
+            }
+
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        }
+        catch (IOException | NoSuchAlgorithmException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether a successful verification with the given key was
+     * recorded before.
+     *
+     * @param key The key of the verification. See
+     *          {@link #keyFor(Configuration, List)}.
+     * @return Whether the verification can be skipped.
+     */
+    public boolean containsSuccess(String key) {
+        return !Boolean.getBoolean(FORCE_PROPERTY) && fileFor(key).isFile();
+    }
+
+    /**
+     * Records that the verification with the given key was successful. Does
+     * nothing if the entry can't be written.
+     *
+     * @param key The key of the verification. See
+     *          {@link #keyFor(Configuration, List)}.
+     * @param type The class that was verified.
+     */
+    public void putSuccess(String key, Class<?> type) {
+        File temp = null;
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+                return;
+            }
+            temp = File.createTempFile(key, ".tmp", directory);
+            Files.write(temp.toPath(), (type.getName() + "\n").getBytes(UTF_8));
+            try {
+                Files.move(temp.toPath(), fileFor(key).toPath(), StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), fileFor(key).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException | SecurityException e) {
+            // The cache is only an optimization; the verification itself has succeeded.
+            if (temp != null && !temp.delete()) {
+                temp.deleteOnExit();
+            }
+        }
+    }
+
+    private File fileFor(String key) {
+        return new File(directory, key);
+    }
+
+    // Follows the field types transitively, together with their superclasses,
+    // like FallbackFactory does when it creates values for them, so that a
+    // change in a nested value type invalidates the entry as well. Classes
+    // from the JDK aren't expanded: their bytecode only changes with the JDK.
+    static Set<Class<?>> classesInvolvedIn(Configuration<?> config) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(config.getType());
+        if (config.getRedefinedSubclass() != null) {
+            queue.add(config.getRedefinedSubclass());
+        }
+
+        while (!queue.isEmpty()) {
+            Class<?> c = queue.remove();
+            if (!result.add(c) || c.isPrimitive() || c.getClassLoader() == null) {
+                continue;
+            }
+            Set<Class<?>> next = new LinkedHashSet<>();
+            for (Class<?> superclass : SuperclassIterable.of(c)) {
+                next.add(superclass);
+            }
+            for (Field f : FieldIterable.of(c)) {
+                addClassesOf(f.getGenericType(), next);
+            }
+            for (Class<?> n : next) {
+                if (!result.contains(n)) {
+                    queue.add(n);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addClassesOf(Type type, Set<Class<?>> result) {
+        if (type instanceof Class) {
+            Class<?> c = (Class<?>)type;
+            while (c.isArray()) {
+                c = c.getComponentType();
+            }
+            result.add(c);
+        }
+        else if (type instanceof ParameterizedType) {
+            addClassesOf(((ParameterizedType)type).getRawType(), result);
+            for (Type argument : ((ParameterizedType)type).getActualTypeArguments()) {
+                addClassesOf(argument, result);
+            }
+        }
+        else if (type instanceof GenericArrayType) {
+            addClassesOf(((GenericArrayType)type).getGenericComponentType(), result);
+        }
+        else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType)type).getUpperBounds()) {
+                addClassesOf(bound, result);
+            }
+            for (Type bound : ((WildcardType)type).getLowerBounds()) {
+                addClassesOf(bound, result);
+            }
+        }
+    }
+
+    private static boolean updateWithBytecode(MessageDigest digest, Class<?> c) throws IOException {
+        ClassLoader classLoader = c.getClassLoader();
+        if (c.isPrimitive() || classLoader == null) {
+            // Classes from the JDK change only when the JDK does.
+            update(digest, System.getProperty("java.version"));
+            return true;
+        }
+
+        try (InputStream is = classLoader.getResourceAsStream(c.getName().replace('.', '/') + ".class")) {
+            if (is == null) {
+                return false;
+            }
+            byte[] buffer = new byte[8192];
+            int read = is.read(buffer);
+            while (read >= 0) {
+                digest.update(buffer, 0, read);
+                read = is.read(buffer);
+            }
+            return true;
+        }
+    }
+
+    private static void update(MessageDigest digest, String s) {
+        digest.update(s.getBytes(UTF_8));
+        digest.update((byte)0);
+    }
+
+    private static boolean update(MessageDigest digest, String prefix, String description) {
+        if (description == null) {
+            return false;
+        }
+        update(digest, prefix + description);
+        return true;
+    }
+
+    static String describe(PrefabEntry entry) {
+        String redDescription = describe(entry.red);
+        String blackDescription = describe(entry.black);
+        if (redDescription == null || blackDescription == null) {
+            return null;
+        }
+        return entry.type.getName() + ": " + redDescription + ", " + blackDescription;
+    }
+
+    // Returns null for a value that uses Object's toString, because that
+    // contains an identity hash code, which would give every run a new key.
+    // Also returns null if toString fails in any way, for instance because
+    // the object graph is cyclic: that shouldn't affect the verification.
+    private static String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (!hasOwnToString(value.getClass())) {
+            return null;
+        }
+        try {
+            return value.getClass().getName() + "=" + value;
+        }
+        catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static boolean hasOwnToString(Class<?> type) {
+        try {
+            return type.getMethod("toString").getDeclaringClass() != Object.class;
+        }
+        catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The prefabricated values of one type that were added to a verification.
+     * They are only described when a key is computed, so that their
+     * {@code toString} isn't called when no result cache is used.
+     */
+    public static final class PrefabEntry {
+        private final Class<?> type;
+        private final Object red;
+        private final Object black;
+
+        private PrefabEntry(Class<?> type, Object red, Object black) {
+            this.type = type;
+            this.red = red;
+            this.black = black;
+        }
+
+        /**
+         * Factory method.
+         *
+         * @param type The type of the values.
+         * @param red The red value.
+         * @param black The black value.
+         * @return An entry for the given values.
+         */
+        public static PrefabEntry of(Class<?> type, Object red, Object black) {
+            return new PrefabEntry(type, red, black);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of how much work a single verification does.
+ *
+ * A verification runs on a single thread, so the counters are bound to the
+ * thread that calls {@link #start()}. Code that does the actual work can
+ * report to the current counters through the static methods, without having
+ * to pass them around. When no counters are active on the current thread,
+ * these methods do nothing.
+ */
+public final class VerificationCounters {
+    private static final ThreadLocal<VerificationCounters> CURRENT = new ThreadLocal<>();
+
+    private final VerificationCounters previous;
+    private long instantiations = 0;
+    private long classesScanned = 0;
+    private long tupleHits = 0;
+    private long tupleMisses = 0;
+    private long dynamicSubclasses = 0;
+    private final Map<String, Long> times = new LinkedHashMap<>();
+
+    private VerificationCounters(VerificationCounters previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Starts a new set of counters and binds it to the current thread, until
+     * {@link #stop()} is called.
+     *
+     * @return The new counters.
+     */
+    public static VerificationCounters start() {
+        VerificationCounters result = new VerificationCounters(CURRENT.get());
+        CURRENT.set(result);
+        return result;
+    }
+
+    /**
+     * Unbinds these counters from the current thread, and re-binds the
+     * counters that were active before {@link #start()} was called, if any.
+     */
+    public void stop() {
+        if (previous == null) {
+            CURRENT.remove();
+        }
+        else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Registers that an instance was created on the current thread.
+     */
+    public static void countInstantiation() {
+        VerificationCounters current = CURRENT.get();
+        if (current != null) {
+            current.instantiations++;
+        }
+    }
+
+    /**
+     * Registers that a class file was parsed on the current thread.
+     */
+    public static void countClassScanned() {
+        VerificationCounters current = CURRENT.get();
+        if (current != null) {
+            current.classesScanned++;
+        }
+    }
+
+    /**
+     * Registers that a prefab value tuple was requested on the current
+     * thread.
+     *
+     * @param hit Whether the tuple was already in the cache, or had to be
+     *          created.
+     */
+    public static void countTuple(boolean hit) {
+        VerificationCounters current = CURRENT.get();
+        if (current != null) {
+            if (hit) {
+                current.tupleHits++;
+            }
+            else {
+                current.tupleMisses++;
+            }
+        }
+    }
+
+    /**
+     * Registers that a dynamic subclass was generated on the current thread.
+     */
+    public static void countDynamicSubclass() {
+        VerificationCounters current = CURRENT.get();
+        if (current != null) {
+            current.dynamicSubclasses++;
+        }
+    }
+
+    /**
+     * Adds the time that a stage of the verification took.
+     *
+     * @param stage The name of the stage.
+     * @param nanos The time it took, in nanoseconds.
+     */
+    public void addTime(String stage, long nanos) {
+        Long previousTime = times.get(stage);
+        times.put(stage, previousTime == null ? nanos : previousTime + nanos);
+    }
+
+    /**
+     * Getter.
+     */
+    public long getInstantiations() {
+        return instantiations;
+    }
+
+    /**
+     * Getter.
+     */
+    public long getClassesScanned() {
+        return classesScanned;
+    }
+
+    /**
+     * Getter.
+     */
+    public long getTupleHits() {
+        return tupleHits;
+    }
+
+    /**
+     * Getter.
+     */
+    public long getTupleMisses() {
+        return tupleMisses;
+    }
+
+    /**
+     * Getter.
+     */
+    public long getDynamicSubclasses() {
+        return dynamicSubclasses;
+    }
+
+    /**
+     * Getter. Returns the time each stage took, in nanoseconds, in the order
+     * in which the stages were first timed.
+     */
+    public Map<String, Long> getTimes() {
+        return Collections.unmodifiableMap(times);
+    }
+}
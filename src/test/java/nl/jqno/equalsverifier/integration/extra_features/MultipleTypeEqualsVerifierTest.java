@@ -0,0 +1,208 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.testhelpers.IntegrationTestBase;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.C;
+import nl.jqno.equalsverifier.testhelpers.packages.twoincorrect.IncorrectM;
+import nl.jqno.equalsverifier.testhelpers.packages.twoincorrect.IncorrectN;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class MultipleTypeEqualsVerifierTest extends IntegrationTestBase {
+    private static final String CORRECT_PACKAGE = "nl.jqno.equalsverifier.testhelpers.packages.correct";
+    private static final String INCORRECT_PACKAGE = "nl.jqno.equalsverifier.testhelpers.packages.twoincorrect";
+
+    @Test
+    public void succeed_whenAllClassesAreCorrect() {
+        EqualsVerifier.forClasses(A.class, B.class)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesInAPackageAreCorrect() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesInAPackageAndItsSubpackagesAreCorrect() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, true)
+                .verify();
+    }
+
+    @Test
+    public void fail_whenOneOfTheClassesIsIncorrect() {
+        expectFailure("EqualsVerifier found a problem in 1 class.", "* " + IncorrectM.class.getName(), "equals does not use y");
+        EqualsVerifier.forClasses(A.class, IncorrectM.class, B.class)
+                .verify();
+    }
+
+    @Test
+    public void fail_withAllProblems_whenAPackageContainsIncorrectClasses() {
+        expectFailure("EqualsVerifier found a problem in 2 classes.",
+                "* " + IncorrectM.class.getName(), "* " + IncorrectN.class.getName(),
+                "equals does not use y", "equals does not use x");
+        EqualsVerifier.forPackage(INCORRECT_PACKAGE)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenWarningsAreSuppressedForAllClasses() {
+        EqualsVerifier.forPackage(INCORRECT_PACKAGE)
+                .suppress(Warning.ALL_FIELDS_SHOULD_BE_USED)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenUsingGetClassForAllClasses() {
+        EqualsVerifier.forClasses(GetClassPoint.class, OtherGetClassPoint.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesAreGivenForAllClasses() {
+        EqualsVerifier.forClasses(A.class, B.class)
+                .withPrefabValues(FinalPoint.class, new FinalPoint(1, 2), new FinalPoint(2, 3))
+                .verify();
+    }
+
+    @Test
+    public void throw_whenPrefabValuesAreEqual() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Both values are equal.");
+        EqualsVerifier.forClasses(A.class, B.class)
+                .withPrefabValues(FinalPoint.class, new FinalPoint(1, 2), new FinalPoint(1, 2));
+    }
+
+    @Test
+    public void throw_whenPackageContainsNoClasses() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("doesn't contain any classes");
+        EqualsVerifier.forPackage("nl.jqno.equalsverifier.nonexistentpackage");
+    }
+
+    @Test
+    public void reportContainsOutcomeOfEachClass() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(Arrays.<Class<?>>asList(A.class, IncorrectM.class))
+                .report();
+
+        assertEquals(2, reports.size());
+        assertEquals(A.class, reports.get(0).getType());
+        assertTrue(reports.get(0).isSuccessful());
+        assertEquals("", reports.get(0).getMessage());
+        assertEquals(IncorrectM.class, reports.get(1).getType());
+        assertFalse(reports.get(1).isSuccessful());
+        assertTrue(reports.get(1).getMessage().contains("Significant fields"));
+    }
+
+    @Test
+    public void reportCountsInstantiations() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(Arrays.<Class<?>>asList(A.class, IncorrectM.class))
+                .report();
+
+        assertTrue(reports.get(0).getInstantiations() > 0);
+        assertTrue(reports.get(1).getInstantiations() > 0);
+    }
+
+    @Test
+    public void succeed_whenAllClassesInAPackageAreCorrect_inParallel() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, true)
+                .inParallel()
+                .verify();
+    }
+
+    @Test
+    public void fail_withAllProblems_inParallel() {
+        expectFailure("EqualsVerifier found a problem in 2 classes.",
+                "* " + IncorrectM.class.getName(), "* " + IncorrectN.class.getName());
+        EqualsVerifier.forClasses(A.class, IncorrectM.class, B.class, IncorrectN.class)
+                .inParallel()
+                .verify();
+    }
+
+    @Test
+    public void reportKeepsTheOrderOfTheClasses_whenUsingAnExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(IncorrectM.class, A.class, IncorrectN.class, B.class)
+                    .withExecutor(executor)
+                    .report();
+
+            assertEquals(IncorrectM.class, reports.get(0).getType());
+            assertEquals(A.class, reports.get(1).getType());
+            assertEquals(IncorrectN.class, reports.get(2).getType());
+            assertEquals(B.class, reports.get(3).getType());
+            assertFalse(reports.get(0).isSuccessful());
+            assertTrue(reports.get(1).isSuccessful());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void succeed_whenTheSameClassesAreVerifiedManyTimesInParallel() {
+        List<Class<?>> types = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            types.add(A.class);
+            types.add(B.class);
+            types.add(C.class);
+        }
+        EqualsVerifier.forClasses(types)
+                .withPrefabValues(FinalPoint.class, new FinalPoint(1, 2), new FinalPoint(2, 3))
+                .inParallel()
+                .verify();
+    }
+
+    @Test
+    public void throw_whenExecutorIsNull() {
+        thrown.expect(NullPointerException.class);
+        EqualsVerifier.forClasses(A.class, B.class)
+                .withExecutor(null);
+    }
+
+    static class GetClassPoint {
+        private final int x;
+
+        GetClassPoint(int x) { this.x = x; }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
+            }
+            return x == ((GetClassPoint)obj).x;
+        }
+
+        @Override public int hashCode() { return x; }
+    }
+
+    static class OtherGetClassPoint {
+        private final int y;
+
+        OtherGetClassPoint(int y) { this.y = y; }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != getClass()) {
+                return false;
+            }
+            return y == ((OtherGetClassPoint)obj).y;
+        }
+
+        @Override public int hashCode() { return y; }
+    }
+}
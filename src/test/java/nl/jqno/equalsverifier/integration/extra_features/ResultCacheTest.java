@@ -0,0 +1,159 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.VerificationMetrics;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.util.ResultCache;
+import nl.jqno.equalsverifier.testhelpers.IntegrationTestBase;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.twoincorrect.IncorrectM;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ResultCacheTest extends IntegrationTestBase {
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final RecordingListener listener = new RecordingListener();
+    private File directory;
+
+    @Before
+    public void setUp() {
+        directory = new File(tempFolder.getRoot(), "cache");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ResultCache.FORCE_PROPERTY);
+    }
+
+    @Test
+    public void skipVerification_whenItSucceededBefore() {
+        verifyFinalPoint();
+        verifyFinalPoint();
+
+        assertEquals(2, listener.metrics.size());
+        assertFalse(listener.metrics.get(0).getCheckerNanos().isEmpty());
+        assertTrue(listener.metrics.get(1).isSuccessful());
+        assertTrue(listener.metrics.get(1).getCheckerNanos().isEmpty());
+        assertEquals(1, directory.listFiles().length);
+    }
+
+    @Test
+    public void dontSkipVerification_whenItFailedBefore() {
+        assertFalse(EqualsVerifier.forClass(IncorrectM.class).withResultCache(directory).report().isSuccessful());
+        assertFalse(EqualsVerifier.forClass(IncorrectM.class).withResultCache(directory).report().isSuccessful());
+        assertFalse(directory.exists() && directory.listFiles().length > 0);
+    }
+
+    @Test
+    public void dontSkipVerification_whenConfigurationChanged() {
+        verifyFinalPoint();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withResultCache(directory)
+                .withVerificationListener(listener)
+                .suppress(Warning.STRICT_HASHCODE)
+                .verify();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withResultCache(directory)
+                .withVerificationListener(listener)
+                .withPrefabValues(Point.class, new Point(1, 2), new Point(2, 3))
+                .verify();
+
+        for (VerificationMetrics metrics : listener.metrics) {
+            assertFalse(metrics.getCheckerNanos().isEmpty());
+        }
+        assertEquals(3, directory.listFiles().length);
+    }
+
+    @Test
+    public void dontCache_whenPrefabValuesDontOverrideToString() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withResultCache(directory)
+                .withPrefabValues(NoToString.class, new NoToString(), new NoToString())
+                .verify();
+
+        assertFalse(directory.exists() && directory.listFiles().length > 0);
+    }
+
+    @Test
+    public void dontCallToString_whenNoResultCacheIsUsed() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withPrefabValues(ThrowingToString.class, new ThrowingToString(), new ThrowingToString())
+                .verify();
+        EqualsVerifier.forClasses(A.class, FinalPoint.class)
+                .withPrefabValues(ThrowingToString.class, new ThrowingToString(), new ThrowingToString())
+                .verify();
+    }
+
+    @Test
+    public void dontCache_whenToStringOfPrefabValuesThrows() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withResultCache(directory)
+                .withPrefabValues(ThrowingToString.class, new ThrowingToString(), new ThrowingToString())
+                .verify();
+
+        assertFalse(directory.exists() && directory.listFiles().length > 0);
+    }
+
+    @Test
+    public void dontSkipVerification_whenForced() {
+        verifyFinalPoint();
+        System.setProperty(ResultCache.FORCE_PROPERTY, "true");
+        verifyFinalPoint();
+
+        assertFalse(listener.metrics.get(1).getCheckerNanos().isEmpty());
+    }
+
+    @Test
+    public void skipVerification_whenVerifyingMultipleClasses() {
+        EqualsVerifier.forClasses(A.class, FinalPoint.class).withResultCache(directory).verify();
+        verifyFinalPoint();
+
+        assertTrue(listener.metrics.get(0).getCheckerNanos().isEmpty());
+    }
+
+    @Test
+    public void throw_whenDirectoryIsNull() {
+        expectException(NullPointerException.class, "Directory is null");
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withResultCache(null);
+    }
+
+    private void verifyFinalPoint() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withResultCache(directory)
+                .withVerificationListener(listener)
+                .verify();
+    }
+
+    private static final class RecordingListener implements VerificationListener {
+        private final List<VerificationMetrics> metrics = new ArrayList<>();
+
+        @Override
+        public synchronized void verified(VerificationMetrics verificationMetrics) {
+            metrics.add(verificationMetrics);
+        }
+    }
+
+    static final class NoToString {}
+
+    static final class ThrowingToString {
+        @Override
+        public String toString() {
+            throw new IllegalStateException("toString");
+        }
+    }
+}
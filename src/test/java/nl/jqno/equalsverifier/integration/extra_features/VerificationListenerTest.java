@@ -0,0 +1,129 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.VerificationMetrics;
+import nl.jqno.equalsverifier.VerificationSummary;
+import nl.jqno.equalsverifier.testhelpers.IntegrationTestBase;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.twoincorrect.IncorrectM;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class VerificationListenerTest extends IntegrationTestBase {
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    public void reportMetrics_whenVerificationSucceeds() {
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(listener)
+                .verify();
+
+        VerificationMetrics metrics = listener.single();
+        assertEquals(FinalPoint.class, metrics.getType());
+        assertTrue(metrics.isSuccessful());
+        assertTrue(metrics.getTotalNanos() > 0);
+        assertTrue(metrics.getInstantiations() > 0);
+        assertTrue(metrics.getPrefabValueHits() > 0);
+        assertEquals(
+                Arrays.asList("SignatureChecker", "AbstractDelegationChecker", "NullChecker", "CachedHashCodeChecker",
+                        "ExamplesChecker", "HierarchyChecker", "FieldsChecker"),
+                new ArrayList<>(metrics.getCheckerNanos().keySet()));
+    }
+
+    @Test
+    public void reportMetrics_whenVerificationFails() {
+        EqualsVerifier.forClass(IncorrectM.class)
+                .withVerificationListener(listener)
+                .report();
+
+        VerificationMetrics metrics = listener.single();
+        assertEquals(IncorrectM.class, metrics.getType());
+        assertFalse(metrics.isSuccessful());
+        assertTrue(metrics.getCheckerNanos().containsKey("FieldsChecker"));
+    }
+
+    @Test
+    public void countDynamicSubclasses() {
+        EqualsVerifier.forClass(NotYetSubclassed.class)
+                .withVerificationListener(listener)
+                .report();
+
+        assertTrue(listener.single().getDynamicSubclassesGenerated() > 0);
+    }
+
+    @Test
+    public void reportMetricsForEachClass_whenVerifyingMultipleClasses() {
+        EqualsVerifier.forClasses(A.class, FinalPoint.class)
+                .withVerificationListener(listener)
+                .inParallel()
+                .verify();
+
+        assertEquals(2, listener.metrics.size());
+    }
+
+    @Test
+    public void summaryPrintsSlowestClasses() {
+        VerificationSummary summary = new VerificationSummary();
+        EqualsVerifier.forClasses(A.class, FinalPoint.class, IncorrectM.class)
+                .withVerificationListener(summary)
+                .report();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        summary.printSlowest(new PrintStream(bytes), 2);
+        String output = bytes.toString();
+
+        assertEquals(3, summary.getMetrics().size());
+        assertTrue(output.startsWith("EqualsVerifier: verified 3 classes in "));
+        assertTrue(output.contains(summary.getMetrics().get(0).getType().getName()));
+        assertFalse(output.contains(summary.getMetrics().get(2).getType().getName()));
+        assertTrue(output.contains("slowest checker: "));
+    }
+
+    @Test
+    public void throw_whenListenerIsNull() {
+        expectException(NullPointerException.class, "Listener is null");
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withVerificationListener(null);
+    }
+
+    static class NotYetSubclassed {
+        private final int x;
+
+        NotYetSubclassed(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public final boolean equals(Object obj) {
+            return obj instanceof NotYetSubclassed && ((NotYetSubclassed)obj).x == x;
+        }
+
+        @Override
+        public final int hashCode() {
+            return x;
+        }
+    }
+
+    private static final class RecordingListener implements VerificationListener {
+        private final List<VerificationMetrics> metrics = new ArrayList<>();
+
+        @Override
+        public synchronized void verified(VerificationMetrics verificationMetrics) {
+            metrics.add(verificationMetrics);
+        }
+
+        public VerificationMetrics single() {
+            assertEquals(1, metrics.size());
+            return metrics.get(0);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedTupleCache;
+import nl.jqno.equalsverifier.testhelpers.IntegrationTestBase;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultEquals;
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SharedPrefabValueCacheTest extends IntegrationTestBase {
+    private final SharedTupleCache cache = SharedTupleCache.getInstance();
+
+    @Before
+    @After
+    public void clear() {
+        cache.clear();
+    }
+
+    @Test
+    public void succeed_whenTheSameClassIsVerifiedTwice() {
+        EqualsVerifier.forClass(Line.class)
+                .withSharedPrefabValueCache()
+                .verify();
+        long missesAfterFirstRun = cache.getMissCount();
+
+        EqualsVerifier.forClass(Line.class)
+                .withSharedPrefabValueCache()
+                .verify();
+
+        assertTrue(cache.getHitCount() > 0);
+        assertEquals(missesAfterFirstRun, cache.getMissCount());
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesAreGivenForASharedType() {
+        EqualsVerifier.forClass(Line.class)
+                .withSharedPrefabValueCache()
+                .verify();
+
+        EqualsVerifier.forClass(Line.class)
+                .withSharedPrefabValueCache()
+                .withPrefabValues(FinalPoint.class, new FinalPoint(1, 2), new FinalPoint(2, 3))
+                .verify();
+    }
+
+    @Test
+    public void fail_whenTheClassIsBroken_evenIfItsFieldsAreCached() {
+        EqualsVerifier.forClass(Line.class)
+                .withSharedPrefabValueCache()
+                .verify();
+
+        expectFailure("Significant fields");
+        EqualsVerifier.forClass(BrokenLine.class)
+                .withSharedPrefabValueCache()
+                .verify();
+    }
+
+    static final class Line {
+        private final Point start;
+        private final FinalPoint end;
+
+        public Line(Point start, FinalPoint end) { this.start = start; this.end = end; }
+
+        @Override public boolean equals(Object obj) { return defaultEquals(this, obj); }
+        @Override public int hashCode() { return defaultHashCode(this); }
+    }
+
+    static final class BrokenLine {
+        private final Point start;
+        private final FinalPoint end;
+
+        public BrokenLine(Point start, FinalPoint end) { this.start = start; this.end = end; }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof BrokenLine)) {
+                return false;
+            }
+            BrokenLine other = (BrokenLine)obj;
+            return start == null ? other.start == null : start.equals(other.start);
+        }
+
+        @Override public int hashCode() { return defaultHashCode(this); }
+    }
+}
@@ -1,20 +1,16 @@
 package nl.jqno.equalsverifier.internal.exceptions;
 
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
-
 import static org.junit.Assert.assertTrue;
 
 public class RecursionExceptionTest {
     @Test
     public void messageContainsAllTypes() {
-        LinkedHashSet<TypeTag> stack = new LinkedHashSet<>();
-        stack.add(new TypeTag(String.class));
-        stack.add(new TypeTag(Point.class));
-        stack.add(new TypeTag(Object.class));
+        TypeStack stack = TypeStack.of(new TypeTag(String.class), new TypeTag(Point.class), new TypeTag(Object.class));
 
         String message = new RecursionException(stack).getMessage();
 
@@ -22,4 +18,13 @@ public class RecursionExceptionTest {
             assertTrue(message.contains(tag.toString()));
         }
     }
+
+    @Test
+    public void messageListsTypesInTheOrderInWhichTheyWereEncountered() {
+        TypeStack stack = TypeStack.of(new TypeTag(String.class), new TypeTag(Point.class), new TypeTag(Object.class));
+
+        String message = new RecursionException(stack).getMessage();
+
+        assertTrue(message.endsWith(": String, Point, Object."));
+    }
 }
@@ -4,6 +4,9 @@ import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.SimpleFactory;
 import org.junit.Test;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+
 import static org.junit.Assert.*;
 
 public class FactoryCacheTest {
@@ -45,4 +48,100 @@ public class FactoryCacheTest {
     public void doesntContain() {
         assertFalse(cache.contains(STRING_CLASS));
     }
+
+    @Test
+    public void layerFallsBackOnBase() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache layer = new FactoryCache(cache);
+
+        assertTrue(layer.contains(STRING_CLASS));
+        assertEquals(STRING_FACTORY, layer.get(STRING_CLASS));
+    }
+
+    @Test
+    public void layerTakesPrecedenceOverBase() {
+        PrefabValueFactory<String> otherFactory = new SimpleFactory<>("x", "y", new String("x"));
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache layer = new FactoryCache(cache);
+        layer.put(STRING_CLASS, otherFactory);
+
+        assertEquals(otherFactory, layer.get(STRING_CLASS));
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+    }
+
+    @Test
+    public void putIntoLayerDoesntModifyBase() {
+        FactoryCache layer = new FactoryCache(cache);
+        layer.put(INT_CLASS, INT_FACTORY);
+
+        assertTrue(layer.contains(INT_CLASS));
+        assertFalse(cache.contains(INT_CLASS));
+    }
+
+    @Test
+    public void putByNameAndGet() {
+        cache.put(STRING_CLASS.getName(), STRING_FACTORY);
+
+        assertTrue(cache.contains(STRING_CLASS));
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+    }
+
+    @Test
+    public void putAfterGetReplacesResolvedFactory() {
+        PrefabValueFactory<String> otherFactory = new SimpleFactory<>("x", "y", new String("x"));
+        cache.put(STRING_CLASS.getName(), STRING_FACTORY);
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+
+        cache.put(STRING_CLASS, otherFactory);
+        assertEquals(otherFactory, cache.get(STRING_CLASS));
+
+        cache.put(STRING_CLASS.getName(), STRING_FACTORY);
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+    }
+
+    @Test
+    public void putAfterMissFindsNewFactory() {
+        assertFalse(cache.contains(STRING_CLASS));
+
+        cache.put(STRING_CLASS.getName(), STRING_FACTORY);
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+    }
+
+    @Test
+    public void classesWithTheSameNameFromDifferentClassLoadersAreDistinct() throws Exception {
+        URL location = Loadable.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { location }, null)) {
+            Class<?> other = loader.loadClass(Loadable.class.getName());
+            assertNotSame(Loadable.class, other);
+
+            cache.put(Loadable.class, STRING_FACTORY);
+            assertTrue(cache.contains(Loadable.class));
+            assertFalse(cache.contains(other));
+        }
+    }
+
+    @Test
+    public void fingerprintsMatch_whenLayersHoldTheSameValues() {
+        FactoryCache other = new FactoryCache();
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        other.put(STRING_CLASS, STRING_FACTORY);
+
+        assertEquals(cache.fingerprint(), other.fingerprint());
+    }
+
+    @Test
+    public void fingerprintsDontMatch_whenLayersHoldValuesThatOnlyClaimToBeEqual() {
+        FactoryCache other = new FactoryCache();
+        cache.put(AlwaysEqual.class, new SimpleFactory<>(new AlwaysEqual(), new AlwaysEqual(), new AlwaysEqual()));
+        other.put(AlwaysEqual.class, new SimpleFactory<>(new AlwaysEqual(), new AlwaysEqual(), new AlwaysEqual()));
+
+        assertNotEquals(cache.fingerprint(), other.fingerprint());
+    }
+
+    static final class Loadable {}
+
+    static final class AlwaysEqual {
+        @Override public boolean equals(Object obj) { return true; }
+        @Override public int hashCode() { return 42; }
+    }
 }
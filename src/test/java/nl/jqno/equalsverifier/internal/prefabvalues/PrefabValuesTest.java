@@ -1,16 +1,17 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
+import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.ReflectiveLazyConstantFactory;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.TwoStepNodeA;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 import static nl.jqno.equalsverifier.testhelpers.Util.defaultEquals;
@@ -205,6 +206,22 @@ public class PrefabValuesTest {
         assertEquals(-2, pv.giveBlack(INT_TAG));
     }
 
+    @Test
+    public void newLayerHasFactoriesOfBase() {
+        PrefabValues layer = pv.newLayer();
+        assertEquals(42, layer.giveRed(INT_TAG));
+        assertEquals(1337, layer.giveBlack(INT_TAG));
+    }
+
+    @Test
+    public void addingAFactoryToANewLayerDoesntAffectTheBase() {
+        PrefabValues layer = pv.newLayer();
+        layer.addFactory(int.class, -1, -2, -1);
+
+        assertEquals(-1, layer.giveRed(INT_TAG));
+        assertEquals(42, pv.giveRed(INT_TAG));
+    }
+
     @Test
     public void addLazyFactoryWorks() {
         TypeTag tag = new TypeTag(Lazy.class);
@@ -231,6 +248,13 @@ public class PrefabValuesTest {
         }
     }
 
+    @Test
+    public void typesThatDependOnEachOtherAreReportedAsRecursive() {
+        thrown.expect(RecursionException.class);
+        thrown.expectMessage("TwoStepNodeA, TwoStepNodeB");
+        pv.giveTuple(new TypeTag(TwoStepNodeA.class));
+    }
+
     private static class AppendingStringTestFactory implements PrefabValueFactory<String> {
         private String red;
         private String black;
@@ -238,7 +262,7 @@ public class PrefabValuesTest {
         public AppendingStringTestFactory() { red = ""; black = ""; }
 
         @Override
-        public Tuple<String> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+        public Tuple<String> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
             red += "r"; black += "b";
             return new Tuple<>(red, black, new String(red));
         }
@@ -248,7 +272,7 @@ public class PrefabValuesTest {
     private static class ListTestFactory implements PrefabValueFactory<List> {
         @Override
         @SuppressWarnings("unchecked")
-        public Tuple<List> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+        public Tuple<List> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
             TypeTag subtag = tag.getGenericTypes().get(0);
 
             List red = new ArrayList<>();
@@ -0,0 +1,103 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SharedTupleCacheTest {
+    private static final TypeTag STRING_TAG = new TypeTag(String.class);
+    private static final TypeTag POINT_TAG = new TypeTag(Point.class);
+    private static final Tuple<String> STRING_TUPLE = new Tuple<>("red", "black", new String("red"));
+    private static final Object FINGERPRINT = new Object();
+
+    private final SharedTupleCache cache = SharedTupleCache.getInstance();
+
+    @Before
+    @After
+    public void clear() {
+        cache.clear();
+    }
+
+    @Test
+    public void getCountsAMiss() {
+        assertNull(cache.get(FINGERPRINT, STRING_TAG));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void putAndGetCountsAHit() {
+        cache.putIfAbsent(FINGERPRINT, STRING_TAG, STRING_TUPLE);
+        assertSame(STRING_TUPLE, cache.get(FINGERPRINT, STRING_TAG));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void putIfAbsentReturnsTheExistingTuple() {
+        Tuple<String> other = new Tuple<>("a", "b", new String("a"));
+        cache.putIfAbsent(FINGERPRINT, STRING_TAG, STRING_TUPLE);
+        assertSame(STRING_TUPLE, cache.putIfAbsent(FINGERPRINT, STRING_TAG, other));
+    }
+
+    @Test
+    public void differentFingerprintsDontShareTuples() {
+        cache.putIfAbsent(FINGERPRINT, STRING_TAG, STRING_TUPLE);
+        assertNull(cache.get(new Object(), STRING_TAG));
+    }
+
+    @Test
+    public void clearRemovesTuplesAndResetsCounters() {
+        cache.putIfAbsent(FINGERPRINT, STRING_TAG, STRING_TUPLE);
+        cache.get(FINGERPRINT, STRING_TAG);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void prefabValuesWithTheSameFactoryValuesShareTuples() {
+        String redCopy = new String("a");
+        PrefabValues first = newPrefabValues("a", "b", redCopy);
+        PrefabValues second = newPrefabValues("a", "b", redCopy);
+
+        Point expected = first.giveRed(POINT_TAG);
+        assertSame(expected, second.giveRed(POINT_TAG));
+        assertTrue(cache.getHitCount() > 0);
+    }
+
+    @Test
+    public void prefabValuesWithEqualButDifferentFactoryValuesDontShareTuples() {
+        PrefabValues first = newPrefabValues("a", "b", new String("a"));
+        PrefabValues second = newPrefabValues("a", "b", new String("a"));
+
+        Point notExpected = first.giveRed(POINT_TAG);
+        assertNotSame(notExpected, second.giveRed(POINT_TAG));
+    }
+
+    @Test
+    public void prefabValuesWithDifferentFactoriesDontShareTuples() {
+        PrefabValues first = newPrefabValues("a", "b");
+        PrefabValues second = newPrefabValues("x", "y");
+
+        assertEquals("a", first.giveRed(STRING_TAG));
+        assertEquals("x", second.giveRed(STRING_TAG));
+    }
+
+    private PrefabValues newPrefabValues(String red, String black) {
+        return newPrefabValues(red, black, new String(red));
+    }
+
+    private PrefabValues newPrefabValues(String red, String black, String redCopy) {
+        PrefabValues result = new PrefabValues();
+        result.addFactory(int.class, 1, 2, 1);
+        result.addFactory(String.class, red, black, redCopy);
+        result.useSharedCache(cache);
+        return result;
+    }
+}
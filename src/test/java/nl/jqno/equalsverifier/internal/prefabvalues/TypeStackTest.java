@@ -0,0 +1,70 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TypeStackTest {
+    private static final TypeTag STRING = new TypeTag(String.class);
+    private static final TypeTag POINT = new TypeTag(Point.class);
+    private static final TypeTag LIST_OF_STRING = new TypeTag(List.class, STRING);
+
+    @Test
+    public void emptyStackContainsNothing() {
+        TypeStack stack = TypeStack.empty();
+        assertEquals(0, stack.size());
+        assertFalse(stack.contains(STRING));
+        assertFalse(stack.iterator().hasNext());
+    }
+
+    @Test
+    public void pushDoesNotModifyOriginal() {
+        TypeStack parent = TypeStack.of(STRING);
+        TypeStack child = parent.push(POINT);
+
+        assertTrue(child.contains(STRING));
+        assertTrue(child.contains(POINT));
+        assertFalse(parent.contains(POINT));
+        assertEquals(1, parent.size());
+        assertEquals(2, child.size());
+    }
+
+    @Test
+    public void containsComparesByEquality() {
+        TypeStack stack = TypeStack.of(LIST_OF_STRING);
+        assertTrue(stack.contains(new TypeTag(List.class, new TypeTag(String.class))));
+        assertFalse(stack.contains(new TypeTag(List.class, POINT)));
+    }
+
+    @Test
+    public void pushingAnExistingTypeReturnsTheSameStack() {
+        TypeStack stack = TypeStack.of(STRING, POINT);
+        assertSame(stack, stack.push(new TypeTag(String.class)));
+    }
+
+    @Test
+    public void iterationIsInPushOrder() {
+        TypeStack stack = TypeStack.of(STRING, POINT, LIST_OF_STRING);
+        List<TypeTag> actual = new ArrayList<>();
+        for (TypeTag tag : stack) {
+            actual.add(tag);
+        }
+        assertEquals(Arrays.asList(STRING, POINT, LIST_OF_STRING), actual);
+        assertEquals("[String, Point, List<String>]", stack.toString());
+    }
+
+    @Test
+    public void siblingsShareTheirParent() {
+        TypeStack parent = TypeStack.of(STRING);
+        TypeStack left = parent.push(POINT);
+        TypeStack right = parent.push(LIST_OF_STRING);
+
+        assertFalse(left.contains(LIST_OF_STRING));
+        assertFalse(right.contains(POINT));
+    }
+}
@@ -8,11 +8,17 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class TypeTagTest {
     private static final TypeTag SOME_LONG_TYPETAG =
@@ -25,6 +31,7 @@ public class TypeTagTest {
     public void equalsAndHashCode() {
         EqualsVerifier.forClass(TypeTag.class)
                 .withPrefabValues(TypeTag.class, new TypeTag(Integer.class), SOME_LONG_TYPETAG)
+                .withCachedHashCode("cachedHashCode", "computeHashCode", SOME_LONG_TYPETAG)
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
@@ -121,11 +128,53 @@ public class TypeTagTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void resolvingTheSameFieldTwiceReturnsTheSameInstance() throws Exception {
+        Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
+        TypeTag enclosingType = TypeTag.of(enclosingField, TypeTag.NULL);
+        Field f = Container.class.getDeclaredField("tss");
+
+        assertSame(TypeTag.of(f, enclosingType), TypeTag.of(f, enclosingType));
+    }
+
+    @Test
+    public void resolvingTheSameFieldInADifferentEnclosingTypeResolvesAgain() throws Exception {
+        Field f = Container.class.getDeclaredField("t");
+
+        assertEquals(new TypeTag(String.class), TypeTag.of(f, new TypeTag(Container.class, new TypeTag(String.class))));
+        assertEquals(new TypeTag(Integer.class), TypeTag.of(f, new TypeTag(Container.class, new TypeTag(Integer.class))));
+    }
+
+    @Test
+    public void resolvingAnInheritedFieldTwiceReturnsTheSameInstance() throws Exception {
+        Field f = AbstractList.class.getDeclaredField("modCount");
+        TypeTag enclosingType = new TypeTag(ListSubclass.class);
+
+        assertSame(TypeTag.of(f, enclosingType), TypeTag.of(f, enclosingType));
+    }
+
+    @Test
+    public void resolvingAFieldWithAnEnclosingTypeFromAnotherClassLoaderResolvesAgain() throws Exception {
+        URL location = Container.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { location }, null)) {
+            Class<?> other = loader.loadClass(Container.class.getName());
+            Field f = Container.class.getDeclaredField("ts");
+            TypeTag enclosingType = new TypeTag(Container.class, new TypeTag(other));
+
+            TypeTag actual = TypeTag.of(f, enclosingType);
+            assertEquals(new TypeTag(List.class, new TypeTag(other)), actual);
+            assertNotSame(actual, TypeTag.of(f, enclosingType));
+        }
+    }
+
     @SuppressWarnings("unused")
     static class ContainerContainer {
         Container<String> stringContainer;
     }
 
+    @SuppressWarnings({"serial", "unused"})
+    static class ListSubclass extends ArrayList<String> {}
+
     @SuppressWarnings("unused")
     static class Container<T> {
         T t;
@@ -3,14 +3,13 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.LinkedHashSet;
-
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
@@ -26,7 +25,7 @@ public class AbstractReflectiveGenericFactoryTest {
         receiver = "";
         factory = new AbstractReflectiveGenericFactory<String>() {
             @Override
-            public Tuple<String> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+            public Tuple<String> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
                 return Tuple.of("red", "black", new String("red"));
             }
         };
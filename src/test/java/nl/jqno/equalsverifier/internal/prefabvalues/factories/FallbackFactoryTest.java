@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.Node;
 import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.NodeArray;
@@ -15,8 +16,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.LinkedHashSet;
-
 import static nl.jqno.equalsverifier.testhelpers.Util.defaultEquals;
 import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
 import static org.hamcrest.CoreMatchers.allOf;
@@ -30,14 +29,14 @@ public class FallbackFactoryTest {
 
     private FallbackFactory<?> factory;
     private PrefabValues prefabValues;
-    private LinkedHashSet<TypeTag> typeStack;
+    private TypeStack typeStack;
 
     @Before
     public void setUp() {
         factory = new FallbackFactory<>();
         prefabValues = new PrefabValues();
         prefabValues.addFactory(int.class, 42, 1337, 42);
-        typeStack = new LinkedHashSet<>();
+        typeStack = TypeStack.empty();
     }
 
     @Test
@@ -3,12 +3,12 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -17,7 +17,7 @@ import static org.junit.Assert.assertEquals;
 @SuppressWarnings("rawtypes")
 public class ReflectiveCollectionCopyFactoryTest {
     private PrefabValues prefabValues;
-    private final LinkedHashSet<TypeTag> typeStack = new LinkedHashSet<>();
+    private final TypeStack typeStack = TypeStack.empty();
 
     @Before
     public void setUp() {
@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 import org.junit.Before;
@@ -27,7 +28,7 @@ public class ReflectiveCollectionFactoryTest {
     private static final ReflectiveCollectionFactory<Set> SET_FACTORY = new StubReflectiveCollectionFactory<>("java.util.HashSet");
 
     private final PrefabValues prefabValues = new PrefabValues();
-    private final LinkedHashSet<TypeTag> typeStack = new LinkedHashSet<>();
+    private final TypeStack typeStack = TypeStack.empty();
     private String red;
     private String black;
     private Object redObject;
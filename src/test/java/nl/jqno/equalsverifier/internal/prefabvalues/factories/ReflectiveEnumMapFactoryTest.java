@@ -2,13 +2,13 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.TwoElementEnum;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.EnumMap;
-import java.util.LinkedHashSet;
 
 import static org.junit.Assert.assertEquals;
 
@@ -18,7 +18,7 @@ public class ReflectiveEnumMapFactoryTest {
     private static final Object BLACK_OBJECT = new Object();
     private final ReflectiveEnumMapFactory factory = new ReflectiveEnumMapFactory();
     private final PrefabValues prefabValues = new PrefabValues();
-    private final LinkedHashSet<TypeTag> emptyTypeStack = new LinkedHashSet<>();
+    private final TypeStack emptyTypeStack = TypeStack.empty();
     private final EnumMap<TwoElementEnum, Object> expectedRed = new EnumMap<>(TwoElementEnum.class);
     private final EnumMap<TwoElementEnum, Object> expectedBlack = new EnumMap<>(TwoElementEnum.class);
 
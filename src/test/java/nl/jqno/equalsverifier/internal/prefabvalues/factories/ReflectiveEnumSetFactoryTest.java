@@ -2,13 +2,13 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.TwoElementEnum;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.EnumSet;
-import java.util.LinkedHashSet;
 
 import static org.junit.Assert.assertEquals;
 
@@ -16,7 +16,7 @@ import static org.junit.Assert.assertEquals;
 public class ReflectiveEnumSetFactoryTest {
     private final ReflectiveEnumSetFactory factory = new ReflectiveEnumSetFactory();
     private final PrefabValues prefabValues = new PrefabValues();
-    private final LinkedHashSet<TypeTag> emptyTypeStack = new LinkedHashSet<>();
+    private final TypeStack emptyTypeStack = TypeStack.empty();
 
     @Before
     public void setUp() {
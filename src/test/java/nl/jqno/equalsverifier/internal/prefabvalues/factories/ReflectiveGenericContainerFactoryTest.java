@@ -4,12 +4,11 @@ import com.google.common.base.Optional;
 import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
-
 import static org.junit.Assert.assertEquals;
 
 @SuppressWarnings("rawtypes")
@@ -24,7 +23,7 @@ public class ReflectiveGenericContainerFactoryTest {
             new ReflectiveGenericContainerFactory<>("com.google.common.base.Optional", "of", Object.class);
 
     private final PrefabValues prefabValues = new PrefabValues();
-    private final LinkedHashSet<TypeTag> typeStack = new LinkedHashSet<>();
+    private final TypeStack typeStack = TypeStack.empty();
     private String red;
     private String black;
     private Object redObject;
@@ -3,20 +3,19 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import com.google.common.collect.EnumBiMap;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.TwoElementEnum;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
-
 import static org.junit.Assert.assertEquals;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ReflectiveGuavaEnumBiMapFactoryTest {
     private final ReflectiveGuavaEnumBiMapFactory factory = new ReflectiveGuavaEnumBiMapFactory();
     private final PrefabValues prefabValues = new PrefabValues();
-    private final LinkedHashSet<TypeTag> emptyTypeStack = new LinkedHashSet<>();
+    private final TypeStack emptyTypeStack = TypeStack.empty();
     private EnumBiMap<TwoElementEnum, TwoElementEnum> expectedRed;
     private EnumBiMap<TwoElementEnum, TwoElementEnum> expectedBlack;
 
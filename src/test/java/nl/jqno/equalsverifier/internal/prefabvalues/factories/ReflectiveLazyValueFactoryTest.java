@@ -0,0 +1,106 @@
+package nl.jqno.equalsverifier.internal.prefabvalues.factories;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
+import nl.jqno.equalsverifier.testhelpers.PrefabValuesFactory;
+import org.junit.Test;
+
+import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
+import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
+import static org.junit.Assert.*;
+
+public class ReflectiveLazyValueFactoryTest {
+    private static final String VALUE = Value.class.getName();
+    private static final String THROWING = ThrowingValue.class.getName();
+    private static final String NEVER_USED = NeverUsedValue.class.getName();
+
+    private static boolean neverUsedValueWasInitialized = false;
+
+    private final PrefabValues prefabValues = new PrefabValues();
+    private final TypeStack typeStack = TypeStack.empty();
+
+    @Test
+    public void createRedBlackAndRedCopy() {
+        Tuple<Value> tuple = new ValueFactory(VALUE).createValues(new TypeTag(Value.class), prefabValues, typeStack);
+
+        assertEquals(1, tuple.getRed().i);
+        assertEquals(2, tuple.getBlack().i);
+        assertEquals(1, tuple.getRedCopy().i);
+        assertNotSame(tuple.getRed(), tuple.getRedCopy());
+    }
+
+    @Test
+    public void typeIsNotLoadedUntilValuesAreCreated() {
+        // Doesn't throw:
+        ValueFactory factory = new ValueFactory(THROWING);
+        prefabValues.addLazyFactory(THROWING, factory);
+
+        // Does throw:
+        try {
+            factory.createValues(new TypeTag(ThrowingValue.class), prefabValues, typeStack);
+            fail("Expected an exception");
+        }
+        catch (ExceptionInInitializerError e) {
+            // succeed
+        }
+    }
+
+    @Test
+    public void lazyFactoryDoesNotInitializeItsTypeWhenAnotherTypeIsRealized() {
+        PrefabValues pv = PrefabValuesFactory.withPrimitiveFactories();
+        pv.addLazyFactory(NEVER_USED, new ValueFactory(NEVER_USED));
+
+        Tuple<Value> tuple = pv.giveTuple(new TypeTag(Value.class));
+
+        assertEquals(1, tuple.getRed().i);
+        assertFalse(neverUsedValueWasInitialized);
+    }
+
+    private static final class ValueFactory extends ReflectiveLazyValueFactory<Value> {
+        private ValueFactory(String typeName) {
+            super(typeName);
+        }
+
+        @Override
+        protected Object createRed(ConditionalInstantiator ci) {
+            return ci.instantiate(classes(int.class), objects(1));
+        }
+
+        @Override
+        protected Object createBlack(ConditionalInstantiator ci) {
+            return ci.instantiate(classes(int.class), objects(2));
+        }
+    }
+
+    public static final class Value {
+        private final int i;
+
+        public Value(int i) {
+            this.i = i;
+        }
+    }
+
+    public static final class ThrowingValue {
+        static {
+            if (true) {
+                throw new IllegalStateException("Should not be initialized");
+            }
+        }
+
+        public ThrowingValue(int i) {}
+    }
+
+    public static final class NeverUsedValue {
+        static {
+            neverUsedValueWasInitialized = true;
+            if (true) {
+                throw new IllegalStateException("Should not be initialized");
+            }
+        }
+
+        public NeverUsedValue(int i) {}
+    }
+}
@@ -3,13 +3,13 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
@@ -27,7 +27,7 @@ public class ReflectiveMapFactoryTest {
     private static final ReflectiveMapFactory<Map> MAP_FACTORY = new StubMapPrefabValueFactory("java.util.HashMap");
 
     private final PrefabValues prefabValues = new PrefabValues();
-    private final LinkedHashSet<TypeTag> typeStack = new LinkedHashSet<>();
+    private final TypeStack typeStack = TypeStack.empty();
     private String red;
     private String black;
     private Object redObject;
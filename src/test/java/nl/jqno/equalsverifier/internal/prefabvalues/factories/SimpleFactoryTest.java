@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
 
 public class SimpleFactoryTest {
@@ -24,4 +25,46 @@ public class SimpleFactoryTest {
         assertEquals("red", redCopy);
         assertNotSame("red", redCopy);
     }
+
+    @Test
+    public void factoriesWithTheSameValuesAreEqual() {
+        SimpleFactory<String> other = new SimpleFactory<>("red", "black", factory.createValues(null, null, null).getRedCopy());
+        assertEquals(factory, other);
+        assertEquals(factory.hashCode(), other.hashCode());
+    }
+
+    @Test
+    public void factoriesWithEqualButDifferentValuesAreNotEqual() {
+        assertNotEquals(factory, new SimpleFactory<>("red", "black", new String("red")));
+    }
+
+    @Test
+    public void valuesOwnEqualsAndHashCodeAreNotCalled() {
+        Throwing red = new Throwing();
+        Throwing black = new Throwing();
+        Throwing redCopy = new Throwing();
+        SimpleFactory<Throwing> a = new SimpleFactory<>(red, black, redCopy);
+        SimpleFactory<Throwing> b = new SimpleFactory<>(red, black, redCopy);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new SimpleFactory<>(red, new Throwing(), redCopy));
+    }
+
+    @Test
+    public void factoriesWithDifferentValuesAreNotEqual() {
+        assertNotEquals(factory, new SimpleFactory<>("red", "blue", new String("red")));
+    }
+
+    @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+    private static final class Throwing {
+        @Override
+        public boolean equals(Object obj) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public int hashCode() {
+            throw new IllegalStateException();
+        }
+    }
 }
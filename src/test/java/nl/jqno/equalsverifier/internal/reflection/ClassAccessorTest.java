@@ -250,6 +250,43 @@ public class ClassAccessorTest {
         assertFalse(red.equals(black));
     }
 
+    @Test
+    public void redAndBlackObjectsAreFreshInstancesEveryTime() {
+        PointContainer red = pointContainerAccessor.getRedObject(TypeTag.NULL);
+        PointContainer black = pointContainerAccessor.getBlackObject(TypeTag.NULL);
+        assertNotSame(red, pointContainerAccessor.getRedObject(TypeTag.NULL));
+        assertNotSame(black, pointContainerAccessor.getBlackObject(TypeTag.NULL));
+    }
+
+    @Test
+    public void reusableAccessorGivesSameRedAndBlackObjects() {
+        ClassAccessor<PointContainer> reusable = ClassAccessor.ofReusable(PointContainer.class, prefabValues, NO_INGORED_ANNOTATIONS, false);
+        assertEquals(pointContainerAccessor.getRedObject(TypeTag.NULL), reusable.getRedObject(TypeTag.NULL));
+        assertEquals(pointContainerAccessor.getBlackObject(TypeTag.NULL), reusable.getBlackObject(TypeTag.NULL));
+    }
+
+    @Test
+    public void reusableAccessorGivesFreshInstancesEveryTime() {
+        ClassAccessor<PointContainer> reusable = ClassAccessor.ofReusable(PointContainer.class, prefabValues, NO_INGORED_ANNOTATIONS, false);
+        PointContainer red = reusable.getRedObject(TypeTag.NULL);
+        PointContainer black = reusable.getBlackObject(TypeTag.NULL);
+        assertNotSame(red, reusable.getRedObject(TypeTag.NULL));
+        assertNotSame(black, reusable.getBlackObject(TypeTag.NULL));
+        assertFalse(red.equals(black));
+    }
+
+    @Test
+    public void modifyingARedObjectDoesNotAffectTheNextOne() throws NoSuchFieldException {
+        ClassAccessor<PointContainer> reusable = ClassAccessor.ofReusable(PointContainer.class, prefabValues, NO_INGORED_ANNOTATIONS, false);
+        ObjectAccessor<PointContainer> red = reusable.getRedAccessor(TypeTag.NULL);
+        PointContainer original = red.copy();
+        red.fieldAccessorFor(PointContainer.class.getDeclaredField("point")).changeField(prefabValues, TypeTag.NULL);
+        assertFalse(original.equals(red.get()));
+
+        assertEquals(original, reusable.getRedObject(TypeTag.NULL));
+        assertFalse(original.equals(reusable.getBlackObject(TypeTag.NULL)));
+    }
+
     @Test
     public void getDefaultValuesAccessor_withNoNonnullValues() {
         ObjectAccessor<DefaultValues> objectAccessor = defaultValuesClassAccessor.getDefaultValuesAccessor(TypeTag.NULL, new HashSet<String>());
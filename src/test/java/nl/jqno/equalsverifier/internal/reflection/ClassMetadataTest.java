@@ -0,0 +1,101 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.testhelpers.types.Color;
+import nl.jqno.equalsverifier.testhelpers.types.ColorPoint3D;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.Empty;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.NoFieldsSubWithFields;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ClassMetadataTest {
+    @Test
+    public void metadataIsCached() {
+        assertSame(ClassMetadata.of(Point.class), ClassMetadata.of(Point.class));
+    }
+
+    @Test
+    public void declaresField() {
+        assertTrue(ClassMetadata.of(Point3D.class).declaresField("z"));
+        assertFalse(ClassMetadata.of(Point3D.class).declaresField("x"));
+        assertFalse(ClassMetadata.of(Point3D.class).declaresField("doesNotExist"));
+    }
+
+    @Test
+    public void declaresEqualsAndHashCode() {
+        assertTrue(ClassMetadata.of(Point3D.class).declaresEquals());
+        assertTrue(ClassMetadata.of(Point3D.class).declaresHashCode());
+        assertFalse(ClassMetadata.of(Empty.class).declaresEquals());
+        assertFalse(ClassMetadata.of(Empty.class).declaresHashCode());
+    }
+
+    @Test
+    public void declaredEqualsMethodsIncludeOverloads() {
+        List<Method> methods = ClassMetadata.of(OverloadedEquals.class).getDeclaredEqualsMethods();
+        assertEquals(2, methods.size());
+    }
+
+    @Test
+    public void publicMethodsAreInherited() throws NoSuchMethodException {
+        assertEquals(Point3D.class.getMethod("equals", Object.class), ClassMetadata.of(ColorPoint3D.class).getEqualsMethod());
+        assertEquals(Object.class.getMethod("hashCode"), ClassMetadata.of(Empty.class).getHashCodeMethod());
+    }
+
+    @Test
+    public void interfacesHaveNoPublicEqualsMethod() {
+        assertNull(ClassMetadata.of(Runnable.class).getEqualsMethod());
+    }
+
+    @Test
+    public void superclassesExcludeSelfAndObject() {
+        assertEquals(Arrays.<Class<?>>asList(Point3D.class, Point.class), ClassMetadata.of(ColorPoint3D.class).getSuperclasses());
+        assertEquals(Collections.<Class<?>>emptyList(), ClassMetadata.of(Object.class).getSuperclasses());
+    }
+
+    @Test
+    public void equalsInheritedFromObject() {
+        assertTrue(ClassMetadata.of(Object.class).isEqualsInheritedFromObject());
+        assertTrue(ClassMetadata.of(NoFieldsSubWithFields.class).isEqualsInheritedFromObject());
+        assertFalse(ClassMetadata.of(Point.class).isEqualsInheritedFromObject());
+        assertFalse(ClassMetadata.of(ColorPoint3D.class).isEqualsInheritedFromObject());
+        assertTrue(ClassMetadata.of(AbstractEquals.class).isEqualsInheritedFromObject());
+    }
+
+    @Test
+    public void enumConstantCount() {
+        assertEquals(3, ClassMetadata.of(Color.class).getEnumConstantCount());
+        assertEquals(0, ClassMetadata.of(Point.class).getEnumConstantCount());
+    }
+
+    @SuppressWarnings("unused")
+    static final class OverloadedEquals {
+        @Override
+        public boolean equals(Object obj) {
+            return false;
+        }
+
+        public boolean equals(OverloadedEquals other) {
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    abstract static class AbstractEquals {
+        @Override
+        public abstract boolean equals(Object obj);
+
+        @Override
+        public abstract int hashCode();
+    }
+}
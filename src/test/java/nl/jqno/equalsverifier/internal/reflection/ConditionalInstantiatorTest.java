@@ -152,6 +152,22 @@ public class ConditionalInstantiatorTest {
         assertThat(actual, is(nullValue()));
     }
 
+    @Test
+    public void throwsIse_whenExternalFactoryThrowsAnError() {
+        ci = new ConditionalInstantiator("java.lang.Object");
+
+        thrown.expect(ReflectionException.class);
+        ci.callFactory(ErrorThrowingFactory.class.getName(), "create", classes(), objects());
+    }
+
+    @Test
+    public void nullIsReturned_whenExternalFactoryThrowsAnError_givenFalse() {
+        ci = new ConditionalInstantiator("java.lang.Object", false);
+
+        Object actual = ci.callFactory(ErrorThrowingFactory.class.getName(), "create", classes(), objects());
+        assertThat(actual, is(nullValue()));
+    }
+
     @Test
     public void throwsIse_whenInvalidExternalFactoryMethodNameIsProvided() {
         ci = new ConditionalInstantiator("java.util.List");
@@ -215,4 +231,10 @@ public class ConditionalInstantiatorTest {
         Object actual = ci.returnConstant("FORTY-TWO");
         assertThat(actual, is(nullValue()));
     }
+
+    public static final class ErrorThrowingFactory {
+        public static Object create() {
+            throw new AssertionError("thrown by the factory");
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AllTypesContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.NoFields;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CopierTest {
+    @Test
+    public void copierIsCached() {
+        assertSame(Copier.of(Point3D.class), Copier.of(Point3D.class));
+    }
+
+    @Test
+    public void copierUsesMethodHandles() {
+        assertTrue(Copier.of(AllTypesContainer.class).isCombined());
+    }
+
+    @Test
+    public void copyAllTypes() {
+        AllTypesContainer from = new AllTypesContainer();
+        from._boolean = true;
+        from._char = 'x';
+        from._double = 1.5;
+        from._long = 42L;
+        from._string = "hello";
+        AllTypesContainer to = new AllTypesContainer();
+
+        Copier.of(AllTypesContainer.class).copy(from, to);
+
+        assertEquals(from, to);
+        assertEquals('x', to._char);
+        assertSame(from._string, to._string);
+    }
+
+    @Test
+    public void copyFieldsOfSuperclass() {
+        Point3D from = new Point3D(1, 2, 3);
+        Point3D to = new Point3D(0, 0, 0);
+
+        Copier.of(Point3D.class).copy(from, to);
+
+        assertEquals(from, to);
+    }
+
+    @Test
+    public void copyClassWithoutFields() {
+        Copier.of(NoFields.class).copy(new NoFields(), new NoFields());
+    }
+
+    @Test
+    public void copyDoesntTouchStaticFields() {
+        StaticContainer.value = 1;
+        Copier.of(StaticContainer.class).copy(new StaticContainer(), new StaticContainer());
+        assertEquals(1, StaticContainer.value);
+    }
+
+    static final class StaticContainer {
+        private static int value;
+    }
+}
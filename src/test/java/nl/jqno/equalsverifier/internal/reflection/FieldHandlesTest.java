@@ -0,0 +1,142 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.*;
+
+public class FieldHandlesTest {
+    @Test
+    public void handlesAreCached() {
+        assertSame(handlesFor(Container.class, "i"), handlesFor(Container.class, "i"));
+    }
+
+    @Test
+    public void getPrimitive() {
+        Container c = new Container();
+        c.i = 42;
+        assertEquals(42, handlesFor(Container.class, "i").get(c));
+    }
+
+    @Test
+    public void getObject() {
+        Container c = new Container();
+        c.s = "x";
+        assertEquals("x", handlesFor(Container.class, "s").get(c));
+    }
+
+    @Test
+    public void setPrimitive() {
+        Container c = new Container();
+        assertTrue(handlesFor(Container.class, "i").set(c, 42));
+        assertEquals(42, c.i);
+    }
+
+    @Test
+    public void setFinalField() {
+        FinalContainer c = new FinalContainer(1);
+        assertTrue(handlesFor(FinalContainer.class, "i").set(c, 42));
+        assertEquals(42, handlesFor(FinalContainer.class, "i").get(c));
+    }
+
+    @Test
+    public void dontSetPrimitive_whenValueNeedsWidening() {
+        Container c = new Container();
+        assertFalse(handlesFor(Container.class, "l").set(c, 42));
+        assertEquals(0L, c.l);
+    }
+
+    @Test
+    public void dontSetPrimitive_whenValueIsNull() {
+        Container c = new Container();
+        assertFalse(handlesFor(Container.class, "i").set(c, null));
+    }
+
+    @Test
+    public void dontSetObject_whenValueHasWrongType() {
+        Container c = new Container();
+        assertFalse(handlesFor(Container.class, "s").set(c, 42));
+        assertNull(c.s);
+    }
+
+    @Test
+    public void setDefault() {
+        Container c = new Container();
+        c.i = 42;
+        c.s = "x";
+        assertTrue(handlesFor(Container.class, "i").setDefault(c));
+        assertTrue(handlesFor(Container.class, "s").setDefault(c));
+        assertEquals(0, c.i);
+        assertNull(c.s);
+    }
+
+    @Test
+    public void copy() {
+        Container from = new Container();
+        from.i = 42;
+        from.d = 1.5;
+        from.s = "x";
+        Container to = new Container();
+        for (String name : new String[] { "i", "d", "s" }) {
+            assertTrue(handlesFor(Container.class, name).copy(from, to));
+        }
+        assertEquals(42, to.i);
+        assertEquals(1.5, to.d, 0.0);
+        assertEquals("x", to.s);
+    }
+
+    @Test
+    public void staticField() {
+        FieldHandles handles = handlesFor(Container.class, "staticInt");
+        assertTrue(handles.set(null, 7));
+        assertEquals(7, handles.get(new Container()));
+        handles.setDefault(null);
+        assertEquals(0, Container.staticInt);
+    }
+
+    @Test
+    public void staticFinalFieldCantBeSet() {
+        FieldHandles handles = handlesFor(Container.class, "CONSTANT");
+        assertEquals("constant", handles.get(null));
+        assertFalse(handles.set(null, "other"));
+        assertFalse(handles.setDefault(null));
+    }
+
+    @Test
+    public void unavailable_whenFieldIsNotAccessible() throws NoSuchFieldException {
+        Field field = UncachedHolder.class.getDeclaredField("x");
+        assertNull(FieldHandles.of(field));
+    }
+
+    private static FieldHandles handlesFor(Class<?> type, String name) {
+        for (Field field : FieldPlan.of(type).getFields()) {
+            if (field.getName().equals(name)) {
+                return FieldHandles.of(field);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @SuppressWarnings("unused")
+    static class Container {
+        private static final String CONSTANT = "constant";
+        private static int staticInt;
+
+        private int i;
+        private long l;
+        private double d;
+        private String s;
+    }
+
+    static final class FinalContainer {
+        private final int i;
+
+        FinalContainer(int i) { this.i = i; }
+    }
+
+    @SuppressWarnings("unused")
+    static final class UncachedHolder {
+        private int x;
+    }
+}
@@ -0,0 +1,70 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DifferentAccessModifiersFieldContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DifferentAccessModifiersSubFieldContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.NoFields;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FieldPlanTest {
+    @Test
+    public void planIsCached() {
+        assertSame(FieldPlan.of(DifferentAccessModifiersFieldContainer.class), FieldPlan.of(DifferentAccessModifiersFieldContainer.class));
+    }
+
+    @Test
+    public void fieldsAreTheSameInstancesEveryTime() {
+        Field first = FieldIterable.of(DifferentAccessModifiersFieldContainer.class).iterator().next();
+        Field second = FieldIterable.of(DifferentAccessModifiersFieldContainer.class).iterator().next();
+        assertSame(first, second);
+    }
+
+    @Test
+    public void fieldsAreAccessible() {
+        for (Field field : FieldPlan.of(DifferentAccessModifiersSubFieldContainer.class).getFields()) {
+            assertTrue(field.isAccessible());
+        }
+    }
+
+    @Test
+    public void fieldsOfSubclassComeBeforeFieldsOfSuperclass() {
+        List<Field> expected = new ArrayList<>();
+        expected.addAll(FieldPlan.of(DifferentAccessModifiersSubFieldContainer.class).getDeclaredFields());
+        expected.addAll(FieldPlan.of(DifferentAccessModifiersFieldContainer.class).getDeclaredFields());
+
+        assertEquals(expected, FieldPlan.of(DifferentAccessModifiersSubFieldContainer.class).getFields());
+    }
+
+    @Test
+    public void instanceFieldsExcludeStaticFields() {
+        List<String> names = new ArrayList<>();
+        for (Field field : FieldPlan.of(DifferentAccessModifiersFieldContainer.class).getInstanceFields()) {
+            names.add(field.getName());
+        }
+
+        assertEquals(4, names.size());
+        assertTrue(names.containsAll(Arrays.asList("i", "j", "k", "l")));
+    }
+
+    @Test
+    public void declaredInstanceFieldsExcludeSuperclassFields() {
+        assertEquals(4, FieldPlan.of(DifferentAccessModifiersSubFieldContainer.class).getDeclaredInstanceFields().size());
+        assertEquals(8, FieldPlan.of(DifferentAccessModifiersSubFieldContainer.class).getInstanceFields().size());
+    }
+
+    @Test
+    public void noFields() {
+        assertTrue(FieldPlan.of(NoFields.class).getFields().isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void fieldsCantBeModified() {
+        FieldPlan.of(DifferentAccessModifiersFieldContainer.class).getFields().clear();
+    }
+}
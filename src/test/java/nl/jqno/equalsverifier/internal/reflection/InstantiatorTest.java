@@ -9,7 +9,13 @@ import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.Interface;
 import org.junit.Test;
 import org.w3c.dom.Element;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 
@@ -87,4 +93,55 @@ public class InstantiatorTest {
         Class<?> actual = instantiator.instantiateAnonymousSubclass().getClass();
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void instantiateTheSameSubclassFromSeveralThreads() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        start.await();
+                        return Instantiator.of(ThreadedPoint.class).instantiateAnonymousSubclass().getClass();
+                    }
+                }));
+            }
+            start.countDown();
+
+            Class<?> expected = futures.get(0).get();
+            for (Future<Class<?>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void generateASubclassThatAlreadyExistsInItsClassLoader() {
+        Class<?> expected = Instantiator.of(RegeneratedPoint.class).instantiateAnonymousSubclass().getClass();
+        assertSame(expected, Instantiator.generateDynamicSubclass(RegeneratedPoint.class));
+    }
+
+    @Test
+    public void generateASystemSubclassThatAlreadyExistsInItsClassLoader() {
+        Class<?> expected = Instantiator.generateDynamicSubclass(Comparable.class);
+        assertSame(expected, Instantiator.generateDynamicSubclass(Comparable.class));
+    }
+
+    static class RegeneratedPoint extends Point {
+        RegeneratedPoint(int x, int y) {
+            super(x, y);
+        }
+    }
+
+    static class ThreadedPoint extends Point {
+        ThreadedPoint(int x, int y) {
+            super(x, y);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
+import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
+import static org.junit.Assert.*;
+
+public class MethodHandleCacheTest {
+    @Test
+    public void handlesAreCached() throws Exception {
+        assertSame(MethodHandleCache.method(List.class, "add", Object.class),
+                MethodHandleCache.method(List.class, "add", Object.class));
+        assertSame(MethodHandleCache.constructor(GregorianCalendar.class, int.class, int.class, int.class),
+                MethodHandleCache.constructor(GregorianCalendar.class, int.class, int.class, int.class));
+        assertSame(MethodHandleCache.staticField(BigDecimal.class, "TEN"), MethodHandleCache.staticField(BigDecimal.class, "TEN"));
+    }
+
+    @Test
+    public void overloadsHaveTheirOwnHandles() throws Exception {
+        assertNotSame(MethodHandleCache.method(Integer.class, "valueOf", int.class),
+                MethodHandleCache.method(Integer.class, "valueOf", String.class));
+    }
+
+    @Test
+    public void invokeConstructor() throws Throwable {
+        MethodHandle handle = MethodHandleCache.constructor(GregorianCalendar.class, int.class, int.class, int.class);
+        assertEquals(new GregorianCalendar(1999, 11, 31), MethodHandleCache.invoke(handle, null, objects(1999, 11, 31)));
+    }
+
+    @Test
+    public void invokeStaticMethod() throws Throwable {
+        MethodHandle handle = MethodHandleCache.method(Integer.class, "valueOf", int.class);
+        assertEquals(42, MethodHandleCache.invoke(handle, null, objects(42)));
+    }
+
+    @Test
+    public void invokeVoidInstanceMethod() throws Throwable {
+        List<Object> list = new ArrayList<>();
+        MethodHandle handle = MethodHandleCache.method(List.class, "clear");
+        list.add("x");
+        assertNull(MethodHandleCache.invoke(handle, list, objects()));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void invokeVarargsMethodWithAnArray() throws Throwable {
+        MethodHandle handle = MethodHandleCache.method(Arrays.class, "asList", classes(Object[].class));
+        Object[] elements = { "a", "b" };
+        assertEquals(Arrays.asList("a", "b"), MethodHandleCache.invoke(handle, null, objects((Object)elements)));
+    }
+
+    @Test
+    public void invokeStaticField() throws Throwable {
+        MethodHandle handle = MethodHandleCache.staticField(BigDecimal.class, "TEN");
+        assertSame(BigDecimal.TEN, MethodHandleCache.invoke(handle, null, objects()));
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void missingMethod() throws Exception {
+        MethodHandleCache.method(Integer.class, "thisMethodDoesntExist");
+    }
+
+    @Test(expected = NoSuchFieldException.class)
+    public void instanceFieldIsNotAConstant() throws Exception {
+        MethodHandleCache.staticField(Container.class, "i");
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void invokeWithArgumentOfTheWrongType() throws Throwable {
+        MethodHandle handle = MethodHandleCache.method(Integer.class, "valueOf", int.class);
+        MethodHandleCache.invoke(handle, null, objects("hello"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void exceptionsOfTheMemberArePropagated() throws Throwable {
+        MethodHandle handle = MethodHandleCache.method(List.class, "add", Object.class);
+        MethodHandleCache.invoke(handle, Arrays.asList(), objects("x"));
+    }
+
+    @SuppressWarnings("unused")
+    public static class Container {
+        public int i;
+    }
+}
@@ -0,0 +1,100 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.C;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.subcorrect.D;
+import nl.jqno.equalsverifier.testhelpers.types.ColorPoint3D;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.model.FrameworkMethod;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PackageScannerTest {
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void happyPath() {
+        List<Class<?>> classes = PackageScanner.getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.correct", false);
+        assertEquals(Arrays.<Class<?>>asList(A.class, B.class, C.class), classes);
+    }
+
+    @Test
+    public void scanRecursively() {
+        List<Class<?>> classes = PackageScanner.getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.correct", true);
+        assertEquals(Arrays.<Class<?>>asList(A.class, B.class, C.class, D.class), classes);
+    }
+
+    @Test
+    public void nonexistentPackage() {
+        List<Class<?>> classes = PackageScanner.getClassesIn("nl.jqno.equalsverifier.nonexistentpackage", false);
+        assertTrue(classes.isEmpty());
+    }
+
+    @Test
+    public void packageInJar() {
+        List<Class<?>> classes = PackageScanner.getClassesIn("org.junit.runners.model", false);
+        assertTrue(classes.contains(FrameworkMethod.class));
+    }
+
+    @Test
+    public void directoryWithAPlusInItsPath() throws Exception {
+        File root = tempFolder.newFolder("with+plus");
+        copyClassFile(D.class, root);
+
+        List<Class<?>> classes = scanIsolated(root, D.class.getPackage().getName());
+        assertEquals(1, classes.size());
+        assertEquals(D.class.getName(), classes.get(0).getName());
+    }
+
+    @Test
+    public void classThatCantBeLoaded() throws Exception {
+        // Without its superclass, ColorPoint3D can't be loaded.
+        File root = tempFolder.newFolder();
+        copyClassFile(ColorPoint3D.class, root);
+
+        thrown.expect(ReflectionException.class);
+        thrown.expectMessage(containsString(ColorPoint3D.class.getName()));
+        scanIsolated(root, ColorPoint3D.class.getPackage().getName());
+    }
+
+    private static void copyClassFile(Class<?> type, File root) throws IOException {
+        String path = type.getName().replace('.', '/') + ".class";
+        File target = new File(root, path);
+        assertTrue(target.getParentFile().mkdirs());
+        try (InputStream in = type.getClassLoader().getResourceAsStream(path)) {
+            Files.copy(in, target.toPath());
+        }
+    }
+
+    private static List<Class<?>> scanIsolated(File root, String packageName) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { root.toURI().toURL() }, null)) {
+            thread.setContextClassLoader(loader);
+            return PackageScanner.getClassesIn(packageName, false);
+        }
+        finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ScramblerTest {
+    private static final TypeTag TAG = new TypeTag(Point3D.class);
+
+    private final PrefabValues prefabValues = JavaApiPrefabValues.newPrefabValues();
+
+    @Test
+    public void scramblerIsCached() {
+        assertSame(Scrambler.of(Point3D.class), Scrambler.of(Point3D.class));
+        assertNotSame(Scrambler.of(Point3D.class), Scrambler.ofIgnoringSuper(Point3D.class));
+    }
+
+    @Test
+    public void scrambleChangesAllFields() {
+        Point3D point = new Point3D(1, 2, 3);
+        Scrambler.of(Point3D.class).scramble(point, prefabValues, TAG);
+
+        assertNotEquals(1, point.x);
+        assertNotEquals(2, point.y);
+        assertNotEquals(3, point.z);
+    }
+
+    @Test
+    public void scrambleIgnoringSuperChangesOnlyDeclaredFields() {
+        Point3D point = new Point3D(1, 2, 3);
+        Scrambler.ofIgnoringSuper(Point3D.class).scramble(point, prefabValues, TAG);
+
+        assertEquals(1, point.x);
+        assertEquals(2, point.y);
+        assertNotEquals(3, point.z);
+    }
+
+    @Test
+    public void scrambleIsConsistent() {
+        Point3D first = new Point3D(1, 2, 3);
+        Point3D second = new Point3D(1, 2, 3);
+        Scrambler.of(Point3D.class).scramble(first, prefabValues, TAG);
+        Scrambler.of(Point3D.class).scramble(second, prefabValues, TAG);
+
+        assertEquals(first, second);
+    }
+}
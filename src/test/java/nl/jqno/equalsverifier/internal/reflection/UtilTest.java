@@ -26,6 +26,12 @@ public class UtilTest {
         assertNull(actual);
     }
 
+    @Test
+    public void forNameKeepsReturningNull_whenTypeDoesntExist() {
+        assertNull(Util.classForName("this.type.does.not.exist.either"));
+        assertNull(Util.classForName("this.type.does.not.exist.either"));
+    }
+
     @Test
     public void classesReturnsItsArguments() {
         Class<?>[] expected = new Class<?>[] { String.class, Object.class };
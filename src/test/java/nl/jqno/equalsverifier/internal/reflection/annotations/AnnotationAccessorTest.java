@@ -5,9 +5,11 @@ import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.reflection.Instantiator;
+import nl.jqno.equalsverifier.internal.util.VerificationCounters;
 import nl.jqno.equalsverifier.testhelpers.annotations.AnnotationWithClassValues;
 import nl.jqno.equalsverifier.testhelpers.annotations.NotNull;
 import nl.jqno.equalsverifier.testhelpers.annotations.TestSupportedAnnotations;
+import nl.jqno.equalsverifier.testhelpers.annotations.TypeAnnotationRuntimeRetention;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.*;
 import org.junit.Rule;
@@ -22,6 +24,7 @@ import java.util.Set;
 
 import static nl.jqno.equalsverifier.testhelpers.annotations.TestSupportedAnnotations.*;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -183,6 +186,55 @@ public class AnnotationAccessorTest {
         assertTrue(accessor.typeHas(TYPE_CLASS_RETENTION));
     }
 
+    @Test
+    public void classFilesAreParsedOnlyOnceAcrossInstances() {
+        class Parsed {}
+        VerificationCounters counters = VerificationCounters.start();
+        try {
+            assertFalse(findTypeAnnotationFor(Parsed.class, TYPE_RUNTIME_RETENTION));
+            long scanned = counters.getClassesScanned();
+            assertTrue(scanned > 0);
+
+            assertFalse(findTypeAnnotationFor(Parsed.class, TYPE_CLASS_RETENTION));
+            assertEquals(scanned, counters.getClassesScanned());
+        }
+        finally {
+            counters.stop();
+        }
+    }
+
+    @Test
+    public void superclassFilesAreParsedOnlyOnceAcrossSubclassesAndKeys() {
+        class ParsedSuper {}
+        class ParsedSubA extends ParsedSuper {}
+        class ParsedSubB extends ParsedSuper {}
+        VerificationCounters counters = VerificationCounters.start();
+        try {
+            assertFalse(findTypeAnnotationFor(ParsedSubA.class, TYPE_RUNTIME_RETENTION));
+            long scanned = counters.getClassesScanned();
+
+            assertFalse(findTypeAnnotationFor(ParsedSubB.class, TYPE_RUNTIME_RETENTION));
+            assertEquals(scanned + 1, counters.getClassesScanned());
+
+            Set<String> ignored = Collections.singleton(Type.getDescriptor(TypeAnnotationRuntimeRetention.class));
+            new AnnotationAccessor(TestSupportedAnnotations.values(), ParsedSuper.class, ignored, false).typeHas(TYPE_RUNTIME_RETENTION);
+            assertEquals(scanned + 1, counters.getClassesScanned());
+        }
+        finally {
+            counters.stop();
+        }
+    }
+
+    @Test
+    public void ignoredAnnotationsArePartOfTheIndex() {
+        Set<String> ignored = new HashSet<>();
+        ignored.add(Type.getDescriptor(TypeAnnotationRuntimeRetention.class));
+        AnnotationAccessor accessor = new AnnotationAccessor(TestSupportedAnnotations.values(), AnnotatedWithRuntime.class, ignored, false);
+
+        assertTrue(findTypeAnnotationFor(AnnotatedWithRuntime.class, TYPE_RUNTIME_RETENTION));
+        assertFalse(accessor.typeHas(TYPE_RUNTIME_RETENTION));
+    }
+
     private void assertTypeHasAnnotation(Class<?> type, Annotation annotation) {
         assertTrue(findTypeAnnotationFor(type, annotation));
     }
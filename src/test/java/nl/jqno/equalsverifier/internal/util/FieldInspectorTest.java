@@ -10,10 +10,14 @@ import nl.jqno.equalsverifier.testhelpers.PrefabValuesFactory;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 public class FieldInspectorTest {
     private final PrefabValues prefabValues = PrefabValuesFactory.withPrimitiveFactories();
@@ -34,6 +38,49 @@ public class FieldInspectorTest {
         inspector.checkWithNull(nullFields, new ResetObjectForEachIterationCheck());
     }
 
+    @Test
+    public void objectsAreReset_whenEachCheckBegins() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        ResetObjectForEachIterationCheck check = new ResetObjectForEachIterationCheck();
+
+        inspector.check(check, check, check);
+    }
+
+    @Test
+    public void failureOfTheEarliestCheckIsReported_evenWhenALaterCheckFailsOnAnEarlierField() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        RecordingCheck first = new RecordingCheck("y");
+        RecordingCheck second = new RecordingCheck("x");
+
+        try {
+            inspector.check(first, second);
+            fail("Expected an error");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("y", e.getMessage());
+        }
+        assertEquals(Arrays.asList("x", "y"), first.visited);
+        assertEquals(Arrays.asList("x"), second.visited);
+    }
+
+    private static final class RecordingCheck implements FieldCheck {
+        private final String failOn;
+        private final List<String> visited = new ArrayList<>();
+
+        private RecordingCheck(String failOn) {
+            this.failOn = failOn;
+        }
+
+        @Override
+        public void execute(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
+            String name = referenceAccessor.getFieldName();
+            visited.add(name);
+            if (name.equals(failOn)) {
+                throw new IllegalStateException(name);
+            }
+        }
+    }
+
     private final class ResetObjectForEachIterationCheck implements FieldCheck {
         private Object originalReference;
         private Object originalChanged;
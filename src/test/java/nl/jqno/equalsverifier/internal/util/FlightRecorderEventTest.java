@@ -0,0 +1,75 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.util.FlightRecorderEvent.Span;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class FlightRecorderEventTest {
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void eventsCanBeRecorded_whetherOrNotTheRuntimeSupportsThem() {
+        for (FlightRecorderEvent event : FlightRecorderEvent.values()) {
+            Span span = event.begin();
+            assertNotNull(span);
+            span.end("value", 1);
+        }
+    }
+
+    @Test
+    public void endingASpanWithTooFewValuesDoesNotThrow() {
+        FlightRecorderEvent.CHECKER.begin().end();
+    }
+
+    @Test
+    public void eventIsRecorded_whenARecordingIsRunning() throws Exception {
+        // jdk.jfr is accessed reflectively, because the tests also run on JDKs that don't have it.
+        assumeTrue(classExists("jdk.jfr.EventFactory"));
+        Class<?> recordingType = Class.forName("jdk.jfr.Recording");
+        Object recording = recordingType.getConstructor().newInstance();
+        recordingType.getMethod("enable", String.class).invoke(recording, "nl.jqno.equalsverifier.Checker");
+        recordingType.getMethod("start").invoke(recording);
+
+        Path file = tempFolder.newFile("recording.jfr").toPath();
+        try {
+            Thread.sleep(2 * FlightRecorderEvent.RECHECK_INTERVAL_NANOS / 1_000_000L);
+            Span span = FlightRecorderEvent.CHECKER.begin();
+            assertTrue(span.isActive());
+            span.end("SomeType", "SomeChecker");
+            recordingType.getMethod("stop").invoke(recording);
+            recordingType.getMethod("dump", Path.class).invoke(recording, file);
+        }
+        finally {
+            recordingType.getMethod("close").invoke(recording);
+        }
+
+        Class<?> recordingFile = Class.forName("jdk.jfr.consumer.RecordingFile");
+        List<?> events = (List<?>)recordingFile.getMethod("readAllEvents", Path.class).invoke(null, file);
+        boolean found = false;
+        for (Object event : events) {
+            Object eventType = event.getClass().getMethod("getEventType").invoke(event);
+            String name = (String)eventType.getClass().getMethod("getName").invoke(eventType);
+            found |= name.equals("nl.jqno.equalsverifier.Checker");
+        }
+        assertTrue(found);
+    }
+
+    private static boolean classExists(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        }
+        catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
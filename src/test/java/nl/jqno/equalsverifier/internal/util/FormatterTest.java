@@ -115,6 +115,18 @@ public class FormatterTest {
         assertThat(f.format(), containsString("12"));
     }
 
+    @Test
+    public void parameterThatContainsAPlaceholder() {
+        Formatter f = Formatter.of("%% and %%", "100%%", 2);
+        assertEquals("100%% and 2", f.format());
+    }
+
+    @Test
+    public void sameMessageWithDifferentParameters() {
+        assertEquals("a: 1", Formatter.of("a: %%", 1).format());
+        assertEquals("a: 2", Formatter.of("a: %%", 2).format());
+    }
+
     @Test
     public void nullParameter() {
         Formatter f = Formatter.of("This parameter is null: %%", (Object)null);
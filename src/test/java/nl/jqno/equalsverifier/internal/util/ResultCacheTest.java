@@ -0,0 +1,126 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.reflection.Instantiator;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class ResultCacheTest {
+    private static final List<ResultCache.PrefabEntry> NO_PREFAB_VALUES = Collections.emptyList();
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private ResultCache cache;
+
+    @Test
+    public void keyIsStable() {
+        cache = ResultCache.of(tempFolder.getRoot());
+        assertEquals(cache.keyFor(Configuration.of(Point.class), NO_PREFAB_VALUES),
+                cache.keyFor(Configuration.of(Point.class), NO_PREFAB_VALUES));
+    }
+
+    @Test
+    public void keyDependsOnConfiguration() {
+        cache = ResultCache.of(tempFolder.getRoot());
+        Configuration<Point> config = Configuration.of(Point.class);
+        String key = cache.keyFor(config, NO_PREFAB_VALUES);
+
+        assertNotEquals(key, cache.keyFor(config.withWarningsToSuppress(EnumSet.of(Warning.NONFINAL_FIELDS)), NO_PREFAB_VALUES));
+        assertNotEquals(key, cache.keyFor(config, Collections.singletonList(ResultCache.PrefabEntry.of(String.class, "a", "b"))));
+        assertNotEquals(key, cache.keyFor(Configuration.of(Object.class), NO_PREFAB_VALUES));
+    }
+
+    @Test
+    public void noDescription_whenValuesDontOverrideToString() {
+        assertNotNull(ResultCache.describe(ResultCache.PrefabEntry.of(Point.class, new Point(1, 2), new Point(2, 3))));
+        assertNotNull(ResultCache.describe(ResultCache.PrefabEntry.of(Object.class, null, "b")));
+        assertNull(ResultCache.describe(ResultCache.PrefabEntry.of(Object.class, new Object(), new Object())));
+        assertNull(ResultCache.describe(ResultCache.PrefabEntry.of(int[].class, new int[] { 1 }, new int[] { 2 })));
+    }
+
+    @Test
+    public void noDescription_whenToStringThrows() {
+        assertNull(ResultCache.describe(ResultCache.PrefabEntry.of(ThrowingToString.class, new ThrowingToString(), new ThrowingToString())));
+    }
+
+    @Test
+    public void noKey_whenPrefabValuesCantBeDescribed() {
+        cache = ResultCache.of(tempFolder.getRoot());
+        List<ResultCache.PrefabEntry> entries = Collections.singletonList(ResultCache.PrefabEntry.of(Object.class, new Object(), new Object()));
+        assertNull(cache.keyFor(Configuration.of(Point.class), entries));
+    }
+
+    @Test
+    public void classesInvolvedIncludeFieldTypesTransitively() {
+        Set<Class<?>> classes = ResultCache.classesInvolvedIn(Configuration.of(Outer.class));
+        assertTrue(classes.containsAll(Arrays.<Class<?>>asList(Outer.class, Middle.class, Base.class, Inner.class, BaseField.class)));
+        assertTrue(classes.contains(String.class));
+        assertFalse(classes.contains(Object.class));
+    }
+
+    @Test
+    public void noKey_whenBytecodeIsUnavailable() {
+        Class<?> dynamic = Instantiator.of(Point.class).instantiateAnonymousSubclass().getClass();
+        cache = ResultCache.of(tempFolder.getRoot());
+        assertNull(cache.keyFor(Configuration.of(dynamic), NO_PREFAB_VALUES));
+    }
+
+    @Test
+    public void containsSuccessAfterPut() throws Exception {
+        cache = ResultCache.of(tempFolder.newFolder("nested", "cache"));
+        String key = cache.keyFor(Configuration.of(Point.class), NO_PREFAB_VALUES);
+        assertFalse(cache.containsSuccess(key));
+
+        cache.putSuccess(key, Point.class);
+        assertTrue(cache.containsSuccess(key));
+        cache.putSuccess(key, Point.class);
+        assertTrue(cache.containsSuccess(key));
+    }
+
+    @Test
+    public void putDoesNothing_whenDirectoryCantBeCreated() throws Exception {
+        cache = ResultCache.of(new java.io.File(tempFolder.newFile(), "cache"));
+        cache.putSuccess("key", Point.class);
+        assertFalse(cache.containsSuccess("key"));
+    }
+
+    @SuppressWarnings("unused")
+    static final class Outer {
+        private Middle middle;
+    }
+
+    @SuppressWarnings("unused")
+    static class Base {
+        private BaseField baseField;
+    }
+
+    @SuppressWarnings("unused")
+    static final class Middle extends Base {
+        private Inner[] inners;
+    }
+
+    @SuppressWarnings("unused")
+    static final class Inner {
+        private String s;
+    }
+
+    static final class BaseField {}
+
+    static final class ThrowingToString {
+        @Override
+        public String toString() {
+            throw new IllegalStateException("toString");
+        }
+    }
+}
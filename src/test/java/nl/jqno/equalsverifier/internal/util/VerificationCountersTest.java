@@ -0,0 +1,119 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedTupleCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.Instantiator;
+import nl.jqno.equalsverifier.testhelpers.PrefabValuesFactory;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class VerificationCountersTest {
+    @Test
+    public void countInstantiations() {
+        VerificationCounters counters = VerificationCounters.start();
+        try {
+            VerificationCounters.countInstantiation();
+            VerificationCounters.countInstantiation();
+            assertEquals(2, counters.getInstantiations());
+        }
+        finally {
+            counters.stop();
+        }
+    }
+
+    @Test
+    public void instantiatorReportsToCurrentCounters() {
+        VerificationCounters counters = VerificationCounters.start();
+        try {
+            Instantiator.of(Point.class).instantiate();
+            Instantiator.of(Point.class).instantiateAnonymousSubclass();
+            assertEquals(2, counters.getInstantiations());
+        }
+        finally {
+            counters.stop();
+        }
+    }
+
+    @Test
+    public void nestedCountersDoNotCountForOuterCounters() {
+        VerificationCounters outer = VerificationCounters.start();
+        try {
+            VerificationCounters.countInstantiation();
+            VerificationCounters inner = VerificationCounters.start();
+            VerificationCounters.countInstantiation();
+            inner.stop();
+            VerificationCounters.countInstantiation();
+
+            assertEquals(1, inner.getInstantiations());
+            assertEquals(2, outer.getInstantiations());
+        }
+        finally {
+            outer.stop();
+        }
+    }
+
+    @Test
+    public void prefabValuesReportTupleHitsAndMisses() {
+        PrefabValues prefabValues = PrefabValuesFactory.withPrimitiveFactories();
+        VerificationCounters counters = VerificationCounters.start();
+        try {
+            prefabValues.giveTuple(new TypeTag(Point.class));
+            long misses = counters.getTupleMisses();
+            assertTrue(misses > 0);
+
+            prefabValues.giveTuple(new TypeTag(Point.class));
+            assertEquals(misses, counters.getTupleMisses());
+            assertTrue(counters.getTupleHits() > 0);
+        }
+        finally {
+            counters.stop();
+        }
+    }
+
+    @Test
+    public void prefabValuesReportTuplesFromTheSharedCacheAsHits() {
+        SharedTupleCache sharedCache = SharedTupleCache.getInstance();
+        sharedCache.clear();
+        PrefabValues base = PrefabValuesFactory.withPrimitiveFactories();
+        base.useSharedCache(sharedCache);
+        base.newLayer().giveTuple(new TypeTag(Point.class));
+
+        VerificationCounters counters = VerificationCounters.start();
+        try {
+            base.newLayer().giveTuple(new TypeTag(Point.class));
+            assertEquals(0, counters.getTupleMisses());
+            assertTrue(counters.getTupleHits() > 0);
+        }
+        finally {
+            counters.stop();
+            sharedCache.clear();
+        }
+    }
+
+    @Test
+    public void timesAreAddedUpPerStage() {
+        VerificationCounters counters = VerificationCounters.start();
+        counters.stop();
+        counters.addTime("b", 2);
+        counters.addTime("a", 1);
+        counters.addTime("b", 3);
+
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(counters.getTimes().keySet()));
+        assertEquals(Long.valueOf(5), counters.getTimes().get("b"));
+    }
+
+    @Test
+    public void countingWithoutCountersDoesNothing() {
+        VerificationCounters.countInstantiation();
+        VerificationCounters counters = VerificationCounters.start();
+        counters.stop();
+        assertEquals(0, counters.getInstantiations());
+    }
+}
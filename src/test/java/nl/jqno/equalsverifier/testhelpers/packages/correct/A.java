@@ -0,0 +1,21 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
+
+public final class A {
+    private final int x;
+    private final int y;
+
+    public A(int x, int y) { this.x = x; this.y = y; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof A)) {
+            return false;
+        }
+        A other = (A)obj;
+        return x == other.x && y == other.y;
+    }
+
+    @Override public int hashCode() { return defaultHashCode(this); }
+}
@@ -0,0 +1,21 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
+
+public final class B {
+    private final int x;
+    private final int y;
+
+    public B(int x, int y) { this.x = x; this.y = y; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof B)) {
+            return false;
+        }
+        B other = (B)obj;
+        return x == other.x && y == other.y;
+    }
+
+    @Override public int hashCode() { return defaultHashCode(this); }
+}
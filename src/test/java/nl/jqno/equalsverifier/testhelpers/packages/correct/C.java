@@ -0,0 +1,18 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultEquals;
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
+
+public final class C {
+    private final A a;
+    private final B b;
+
+    public C(A a, B b) { this.a = a; this.b = b; }
+
+    @Override public boolean equals(Object obj) { return defaultEquals(this, obj); }
+    @Override public int hashCode() { return defaultHashCode(this); }
+
+    public interface NotVerified {}
+
+    public enum NotVerifiedEither { ONE, TWO }
+}
@@ -0,0 +1,21 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct.subcorrect;
+
+import static nl.jqno.equalsverifier.testhelpers.Util.defaultHashCode;
+
+public final class D {
+    private final int x;
+    private final int y;
+
+    public D(int x, int y) { this.x = x; this.y = y; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof D)) {
+            return false;
+        }
+        D other = (D)obj;
+        return x == other.x && y == other.y;
+    }
+
+    @Override public int hashCode() { return defaultHashCode(this); }
+}
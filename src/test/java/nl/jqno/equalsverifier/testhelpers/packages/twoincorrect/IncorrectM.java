@@ -0,0 +1,19 @@
+package nl.jqno.equalsverifier.testhelpers.packages.twoincorrect;
+
+public final class IncorrectM {
+    private final int x;
+    private final int y;
+
+    public IncorrectM(int x, int y) { this.x = x; this.y = y; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof IncorrectM)) {
+            return false;
+        }
+        IncorrectM other = (IncorrectM)obj;
+        return x == other.x;
+    }
+
+    @Override public int hashCode() { return x; }
+}
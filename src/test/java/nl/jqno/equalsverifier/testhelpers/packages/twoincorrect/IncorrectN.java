@@ -0,0 +1,19 @@
+package nl.jqno.equalsverifier.testhelpers.packages.twoincorrect;
+
+public final class IncorrectN {
+    private final int x;
+    private final int y;
+
+    public IncorrectN(int x, int y) { this.x = x; this.y = y; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof IncorrectN)) {
+            return false;
+        }
+        IncorrectN other = (IncorrectN)obj;
+        return y == other.y;
+    }
+
+    @Override public int hashCode() { return y; }
+}